@@ -561,9 +561,21 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
                     generateForLoop(new ForInRangeLiteralLoopGenerator(forExpression, binaryCall));
                     return StackValue.none();
                 }
+                if (RangeCodegenUtil.isOptimizableDownTo(resolvedCall.getResultingDescriptor()) &&
+                    RangeCodegenUtil.isProgression(resolvedCall.getResultingDescriptor().getReturnType())) {
+                    generateForLoop(new ForInDownToLoopGenerator(forExpression, binaryCall, false));
+                    return StackValue.none();
+                }
             }
         }
 
+        // Is it "a.indices", "a.withIndex()" or "p.reversed()"
+        AbstractForLoopGenerator intrinsicGenerator = createForLoopGeneratorForQualifiedLoopRange(forExpression);
+        if (intrinsicGenerator != null) {
+            generateForLoop(intrinsicGenerator);
+            return StackValue.none();
+        }
+
         KtExpression loopRange = forExpression.getLoopRange();
         assert loopRange != null;
         KotlinType loopRangeType = bindingContext.getType(loopRange);
@@ -588,6 +600,61 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         return StackValue.none();
     }
 
+    @Nullable
+    private AbstractForLoopGenerator createForLoopGeneratorForQualifiedLoopRange(@NotNull KtForExpression forExpression) {
+        KtExpression loopRange = forExpression.getLoopRange();
+        assert loopRange != null;
+        loopRange = KtPsiUtil.deparenthesize(loopRange);
+        if (!(loopRange instanceof KtDotQualifiedExpression)) return null;
+
+        ResolvedCall<?> resolvedCall = CallUtilKt.getResolvedCall(loopRange, bindingContext);
+        if (resolvedCall == null) return null;
+
+        CallableDescriptor descriptor = resolvedCall.getResultingDescriptor();
+        ReceiverParameterDescriptor receiverParameter = descriptor.getExtensionReceiverParameter();
+        if (receiverParameter == null) return null;
+
+        KtExpression receiverExpression = ((KtDotQualifiedExpression) loopRange).getReceiverExpression();
+        KotlinType receiverType = receiverParameter.getType();
+
+        if (RangeCodegenUtil.isArrayOrCollectionIndices(descriptor)) {
+            return new ForInIndicesLoopGenerator(forExpression, receiverExpression, receiverType);
+        }
+
+        if (RangeCodegenUtil.isOptimizableReversed(descriptor)) {
+            RangeCodegenUtil.BinaryCall rangeCall = RangeCodegenUtil.getRangeLiteralAsBinaryCall(receiverExpression);
+            if (rangeCall != null) {
+                ResolvedCall<?> rangeToCall = CallUtilKt.getResolvedCall(rangeCall.op, bindingContext);
+                if (rangeToCall != null && RangeCodegenUtil.isOptimizableRangeTo(rangeToCall.getResultingDescriptor())) {
+                    return new ForInDownToLoopGenerator(forExpression, rangeCall, true);
+                }
+            }
+            return new ForInReversedProgressionLoopGenerator(forExpression, receiverExpression, receiverType);
+        }
+
+        if (RangeCodegenUtil.isArrayOrIterableWithIndex(descriptor) && isDestructuringOfIndexedValue(forExpression)) {
+            if (RangeCodegenUtil.isArrayOrPrimitiveArray(receiverType)) {
+                return new ForInArrayWithIndexLoopGenerator(forExpression, receiverExpression, receiverType);
+            }
+            return new ForInIterableWithIndexLoopGenerator(forExpression, receiverExpression, receiverType);
+        }
+
+        return null;
+    }
+
+    private boolean isDestructuringOfIndexedValue(@NotNull KtForExpression forExpression) {
+        KtDestructuringDeclaration multiParameter = forExpression.getDestructuringParameter();
+        if (multiParameter == null) return false;
+
+        for (KtDestructuringDeclarationEntry entry : multiParameter.getEntries()) {
+            ResolvedCall<FunctionDescriptor> resolvedCall = bindingContext.get(COMPONENT_RESOLVED_CALL, entry);
+            if (resolvedCall == null || !RangeCodegenUtil.isIndexedValueComponent(resolvedCall.getResultingDescriptor())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private OwnerKind contextKind() {
         return context.getContextKind();
     }
@@ -713,14 +780,19 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
 
                 ResolvedCall<FunctionDescriptor> resolvedCall = bindingContext.get(COMPONENT_RESOLVED_CALL, variableDeclaration);
                 assert resolvedCall != null : "Resolved call is null for " + variableDeclaration.getText();
-                Call call = makeFakeCall(new TransientReceiver(elementType));
 
-                StackValue value = invokeFunction(call, resolvedCall, StackValue.local(loopParameterVar, asmElementType));
+                StackValue value = getComponentValue(resolvedCall);
                 StackValue.local(componentVarIndex, componentAsmType).store(value, v);
                 v.visitLabel(variableStartLabel);
             }
         }
 
+        @NotNull
+        protected StackValue getComponentValue(@NotNull ResolvedCall<FunctionDescriptor> componentCall) {
+            Call call = makeFakeCall(new TransientReceiver(elementType));
+            return invokeFunction(call, componentCall, StackValue.local(loopParameterVar, asmElementType));
+        }
+
         protected abstract void assignToLoopParameter();
 
         protected abstract void increment(@NotNull Label loopExit);
@@ -914,6 +986,139 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         }
     }
 
+    private abstract class AbstractForWithIndexLoopGenerator extends AbstractForLoopGenerator {
+        protected final KtExpression receiverExpression;
+        protected final Type asmReceiverType;
+        protected int indexVar;
+
+        private AbstractForWithIndexLoopGenerator(
+                @NotNull KtForExpression forExpression,
+                @NotNull KtExpression receiverExpression,
+                @NotNull KotlinType receiverType
+        ) {
+            super(forExpression);
+            this.receiverExpression = receiverExpression;
+            this.asmReceiverType = asmType(receiverType);
+        }
+
+        @Override
+        public void beforeLoop() {
+            super.beforeLoop();
+
+            indexVar = createLoopTempVariable(Type.INT_TYPE);
+            storeReceiver();
+
+            v.iconst(0);
+            v.store(indexVar, Type.INT_TYPE);
+        }
+
+        protected abstract void storeReceiver();
+
+        @NotNull
+        protected abstract StackValue getValue();
+
+        @Override
+        public void checkEmptyLoop(@NotNull Label loopExit) {
+        }
+
+        @NotNull
+        @Override
+        protected StackValue getComponentValue(@NotNull ResolvedCall<FunctionDescriptor> componentCall) {
+            // IndexedValue is never created: component1() is the index, component2() is the value
+            if (componentCall.getResultingDescriptor().getName().asString().equals("component1")) {
+                return StackValue.local(indexVar, Type.INT_TYPE);
+            }
+            return getValue();
+        }
+
+        @Override
+        protected void increment(@NotNull Label loopExit) {
+            v.iinc(indexVar, 1);
+        }
+    }
+
+    private class ForInArrayWithIndexLoopGenerator extends AbstractForWithIndexLoopGenerator {
+        private int arrayVar;
+
+        private ForInArrayWithIndexLoopGenerator(
+                @NotNull KtForExpression forExpression,
+                @NotNull KtExpression arrayExpression,
+                @NotNull KotlinType arrayType
+        ) {
+            super(forExpression, arrayExpression, arrayType);
+        }
+
+        @Override
+        protected void storeReceiver() {
+            arrayVar = createLoopTempVariable(OBJECT_TYPE);
+            gen(receiverExpression, asmReceiverType);
+            v.store(arrayVar, OBJECT_TYPE);
+        }
+
+        @Override
+        public void checkPreCondition(@NotNull Label loopExit) {
+            v.load(indexVar, Type.INT_TYPE);
+            v.load(arrayVar, OBJECT_TYPE);
+            v.arraylength();
+            v.ificmpge(loopExit);
+        }
+
+        @Override
+        protected void assignToLoopParameter() {
+        }
+
+        @NotNull
+        @Override
+        protected StackValue getValue() {
+            return StackValue.arrayElement(correctElementType(asmReceiverType),
+                                           StackValue.local(arrayVar, asmReceiverType),
+                                           StackValue.local(indexVar, Type.INT_TYPE));
+        }
+    }
+
+    private class ForInIterableWithIndexLoopGenerator extends AbstractForWithIndexLoopGenerator {
+        private int iteratorVar;
+        private int valueVar;
+
+        private ForInIterableWithIndexLoopGenerator(
+                @NotNull KtForExpression forExpression,
+                @NotNull KtExpression iterableExpression,
+                @NotNull KotlinType iterableType
+        ) {
+            super(forExpression, iterableExpression, iterableType);
+        }
+
+        @Override
+        protected void storeReceiver() {
+            iteratorVar = createLoopTempVariable(OBJECT_TYPE);
+            valueVar = createLoopTempVariable(OBJECT_TYPE);
+
+            gen(receiverExpression, asmReceiverType);
+            v.invokeinterface("java/lang/Iterable", "iterator", "()Ljava/util/Iterator;");
+            v.store(iteratorVar, OBJECT_TYPE);
+        }
+
+        @Override
+        public void checkPreCondition(@NotNull Label loopExit) {
+            v.load(iteratorVar, OBJECT_TYPE);
+            v.invokeinterface("java/util/Iterator", "hasNext", "()Z");
+            v.ifeq(loopExit);
+        }
+
+        @Override
+        protected void assignToLoopParameter() {
+            v.load(iteratorVar, OBJECT_TYPE);
+            v.invokeinterface("java/util/Iterator", "next", "()Ljava/lang/Object;");
+            v.store(valueVar, OBJECT_TYPE);
+        }
+
+        @NotNull
+        @Override
+        protected StackValue getValue() {
+            return StackValue.local(valueVar, OBJECT_TYPE);
+        }
+    }
+
     private abstract class AbstractForInProgressionOrRangeLoopGenerator extends AbstractForLoopGenerator {
         protected int endVar;
 
@@ -1047,28 +1252,110 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         }
     }
 
-    private class ForInProgressionExpressionLoopGenerator extends AbstractForInProgressionOrRangeLoopGenerator {
-        private int incrementVar;
-        private Type incrementType;
+    private class ForInIndicesLoopGenerator extends AbstractForInRangeLoopGenerator {
+        private final KtExpression receiverExpression;
+        private final KotlinType receiverType;
 
-        private ForInProgressionExpressionLoopGenerator(@NotNull KtForExpression forExpression) {
+        private ForInIndicesLoopGenerator(
+                @NotNull KtForExpression forExpression,
+                @NotNull KtExpression receiverExpression,
+                @NotNull KotlinType receiverType
+        ) {
             super(forExpression);
+            this.receiverExpression = receiverExpression;
+            this.receiverType = receiverType;
+        }
+
+        @Override
+        protected void storeRangeStartAndEnd() {
+            v.iconst(0);
+            v.store(loopParameterVar, Type.INT_TYPE);
+
+            Type asmReceiverType = asmType(receiverType);
+            gen(receiverExpression, asmReceiverType);
+            if (RangeCodegenUtil.isArrayOrPrimitiveArray(receiverType)) {
+                v.arraylength();
+            }
+            else {
+                v.invokeinterface("java/util/Collection", "size", "()I");
+            }
+            v.iconst(1);
+            v.sub(Type.INT_TYPE);
+            v.store(endVar, Type.INT_TYPE);
+        }
+    }
+
+    private class ForInDownToLoopGenerator extends AbstractForInProgressionOrRangeLoopGenerator {
+        private final RangeCodegenUtil.BinaryCall rangeCall;
+        private final boolean isReversedRange;
+
+        // Handles both "a downTo b" and "(b..a).reversed()"
+        private ForInDownToLoopGenerator(
+                @NotNull KtForExpression forExpression,
+                @NotNull RangeCodegenUtil.BinaryCall rangeCall,
+                boolean isReversedRange
+        ) {
+            super(forExpression);
+            this.rangeCall = rangeCall;
+            this.isReversedRange = isReversedRange;
         }
 
         @Override
         public void beforeLoop() {
             super.beforeLoop();
 
-            incrementVar = createLoopTempVariable(asmElementType);
+            // The left operand is always evaluated first
+            gen(rangeCall.left, asmElementType);
+            v.store(isReversedRange ? endVar : loopParameterVar, asmElementType);
+
+            gen(rangeCall.right, asmElementType);
+            v.store(isReversedRange ? loopParameterVar : endVar, asmElementType);
+        }
 
+        @Override
+        public void checkEmptyLoop(@NotNull Label loopExit) {
+            v.load(loopParameterVar, asmElementType);
+            v.load(endVar, asmElementType);
+            if (asmElementType.getSort() == Type.LONG) {
+                v.lcmp();
+                v.iflt(loopExit);
+            }
+            else {
+                v.ificmplt(loopExit);
+            }
+        }
+
+        @Override
+        protected void assignToLoopParameter() {
+        }
+
+        @Override
+        protected void increment(@NotNull Label loopExit) {
+            checkPostCondition(loopExit);
+
+            if (asmElementType == Type.INT_TYPE) {
+                v.iinc(loopParameterVar, -1);
+            }
+            else {
+                v.load(loopParameterVar, asmElementType);
+                genIncrement(asmElementType, -1, v);
+                v.store(loopParameterVar, asmElementType);
+            }
+        }
+    }
+
+    private class ForInProgressionExpressionLoopGenerator extends AbstractForInProgressionLoopGenerator {
+        private ForInProgressionExpressionLoopGenerator(@NotNull KtForExpression forExpression) {
+            super(forExpression);
+        }
+
+        @Override
+        protected void storeProgressionParameters() {
             KotlinType loopRangeType = bindingContext.getType(forExpression.getLoopRange());
             assert loopRangeType != null;
             Type asmLoopRangeType = asmType(loopRangeType);
 
-            Collection<PropertyDescriptor> incrementProp =
-                    loopRangeType.getMemberScope().getContributedVariables(Name.identifier("step"), NoLookupLocation.FROM_BACKEND);
-            assert incrementProp.size() == 1 : loopRangeType + " " + incrementProp.size();
-            incrementType = asmType(incrementProp.iterator().next().getType());
+            incrementType = getStepType(loopRangeType);
 
             gen(forExpression.getLoopRange(), asmLoopRangeType);
             v.dup();
@@ -1078,6 +1365,67 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
             generateRangeOrProgressionProperty(asmLoopRangeType, "getLast", asmElementType, endVar);
             generateRangeOrProgressionProperty(asmLoopRangeType, "getStep", incrementType, incrementVar);
         }
+    }
+
+    private class ForInReversedProgressionLoopGenerator extends AbstractForInProgressionLoopGenerator {
+        private final KtExpression progressionExpression;
+        private final KotlinType progressionType;
+
+        private ForInReversedProgressionLoopGenerator(
+                @NotNull KtForExpression forExpression,
+                @NotNull KtExpression progressionExpression,
+                @NotNull KotlinType progressionType
+        ) {
+            super(forExpression);
+            this.progressionExpression = progressionExpression;
+            this.progressionType = progressionType;
+        }
+
+        @Override
+        protected void storeProgressionParameters() {
+            Type asmProgressionType = asmType(progressionType);
+
+            incrementType = getStepType(progressionType);
+
+            gen(progressionExpression, asmProgressionType);
+            v.dup();
+            v.dup();
+
+            // p.reversed() goes from p.last to p.first with -p.step
+            generateRangeOrProgressionProperty(asmProgressionType, "getFirst", asmElementType, endVar);
+            generateRangeOrProgressionProperty(asmProgressionType, "getLast", asmElementType, loopParameterVar);
+            v.invokevirtual(asmProgressionType.getInternalName(), "getStep", "()" + incrementType.getDescriptor(), false);
+            v.neg(incrementType);
+            v.store(incrementVar, incrementType);
+        }
+    }
+
+    private abstract class AbstractForInProgressionLoopGenerator extends AbstractForInProgressionOrRangeLoopGenerator {
+        protected int incrementVar;
+        protected Type incrementType;
+
+        private AbstractForInProgressionLoopGenerator(@NotNull KtForExpression forExpression) {
+            super(forExpression);
+        }
+
+        @Override
+        public void beforeLoop() {
+            super.beforeLoop();
+
+            incrementVar = createLoopTempVariable(asmElementType);
+
+            storeProgressionParameters();
+        }
+
+        protected abstract void storeProgressionParameters();
+
+        @NotNull
+        protected Type getStepType(@NotNull KotlinType progressionType) {
+            Collection<PropertyDescriptor> incrementProp =
+                    progressionType.getMemberScope().getContributedVariables(Name.identifier("step"), NoLookupLocation.FROM_BACKEND);
+            assert incrementProp.size() == 1 : progressionType + " " + incrementProp.size();
+            return asmType(incrementProp.iterator().next().getType());
+        }
 
         @Override
         public void checkEmptyLoop(@NotNull Label loopExit) {
@@ -1369,6 +1717,17 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
             @NotNull FunctionGenerationStrategy strategy,
             @Nullable SamType samType,
             @Nullable FunctionDescriptor functionReferenceTarget
+    ) {
+        return putClosureInstanceOnStack(generateClosureClass(declaration, descriptor, strategy, samType, functionReferenceTarget));
+    }
+
+    @NotNull
+    private ClosureCodegen generateClosureClass(
+            @NotNull KtElement declaration,
+            @NotNull FunctionDescriptor descriptor,
+            @NotNull FunctionGenerationStrategy strategy,
+            @Nullable SamType samType,
+            @Nullable FunctionDescriptor functionReferenceTarget
     ) {
         ClassBuilder cv = state.getFactory().newVisitor(
                 JvmDeclarationOriginKt.OtherOrigin(declaration, descriptor),
@@ -1384,10 +1743,18 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         closureCodegen.generate();
 
         if (closureCodegen.getReifiedTypeParametersUsages().wereUsedReifiedParameters()) {
-            ReifiedTypeInliner.putNeedClassReificationMarker(v);
             propagateChildReifiedTypeParametersUsages(closureCodegen.getReifiedTypeParametersUsages());
         }
 
+        return closureCodegen;
+    }
+
+    @NotNull
+    private StackValue putClosureInstanceOnStack(@NotNull ClosureCodegen closureCodegen) {
+        if (closureCodegen.getReifiedTypeParametersUsages().wereUsedReifiedParameters()) {
+            ReifiedTypeInliner.putNeedClassReificationMarker(v);
+        }
+
         return closureCodegen.putInstanceOnStack(this);
     }
 
@@ -2755,8 +3122,17 @@ public class ExpressionCodegen extends KtVisitor<StackValue, StackValue> impleme
         ResolvedCall<?> resolvedCall = CallUtilKt.getResolvedCallWithAssert(expression.getCallableReference(), bindingContext);
         FunctionDescriptor functionDescriptor = bindingContext.get(FUNCTION, expression);
         if (functionDescriptor != null) {
-            FunctionReferenceGenerationStrategy strategy = new FunctionReferenceGenerationStrategy(state, functionDescriptor, resolvedCall);
-            return genClosure(expression, functionDescriptor, strategy, null, (FunctionDescriptor) resolvedCall.getResultingDescriptor());
+            // Identical references in one declaration share a class (see CodegenAnnotatingVisitor), it's generated only once
+            ClassDescriptor classDescriptor = anonymousClassForCallable(bindingContext, functionDescriptor);
+            ClosureCodegen closureCodegen = parentCodegen.getFunctionReferenceCodegen(classDescriptor);
+            if (closureCodegen == null) {
+                FunctionReferenceGenerationStrategy strategy = new FunctionReferenceGenerationStrategy(state, functionDescriptor, resolvedCall);
+                closureCodegen = generateClosureClass(
+                        expression, functionDescriptor, strategy, null, (FunctionDescriptor) resolvedCall.getResultingDescriptor()
+                );
+                parentCodegen.recordFunctionReferenceCodegen(classDescriptor, closureCodegen);
+            }
+            return putClosureInstanceOnStack(closureCodegen);
         }
 
         VariableDescriptor variableDescriptor = bindingContext.get(VARIABLE, expression);
@@ -3836,56 +4212,77 @@ The "returned" value of try expression with no finally is either the last expres
                 int subjectLocal = expr != null ? myFrameMap.enterTemp(subjectType) : -1;
                 if (subjectLocal != -1) {
                     gen(expr, subjectType);
-                    tempVariables.put(expr, StackValue.local(subjectLocal, subjectType));
                     v.store(subjectLocal, subjectType);
                 }
 
                 Label end = new Label();
-                boolean hasElse = KtPsiUtil.checkWhenExpressionHasSingleElse(expression);
-
-                Label nextCondition = null;
-                for (KtWhenEntry whenEntry : expression.getEntries()) {
-                    if (nextCondition != null) {
-                        v.mark(nextCondition);
-                    }
-                    nextCondition = new Label();
-                    FrameMap.Mark mark = myFrameMap.mark();
-                    Label thisEntry = new Label();
-                    if (!whenEntry.isElse()) {
-                        KtWhenCondition[] conditions = whenEntry.getConditions();
-                        for (int i = 0; i < conditions.length; i++) {
-                            StackValue conditionValue = generateWhenCondition(subjectType, subjectLocal, conditions[i]);
-                            BranchedValue.Companion.condJump(conditionValue, nextCondition, true, v);
-                            if (i < conditions.length - 1) {
-                                v.goTo(thisEntry);
-                                v.mark(nextCondition);
-                                nextCondition = new Label();
-                            }
-                        }
-                    }
-
-                    v.visitLabel(thisEntry);
-                    gen(whenEntry.getExpression(), resultType);
-                    mark.dropTo();
-                    if (!whenEntry.isElse()) {
-                        v.goTo(end);
-                    }
-                }
-                if (!hasElse && nextCondition != null) {
-                    v.mark(nextCondition);
-                    putUnitInstanceOntoStackForNonExhaustiveWhen(expression, isStatement);
-                }
+                generateWhenEntries(expression, expression.getEntries(), subjectType, subjectLocal, resultType, isStatement, end);
 
                 markLineNumber(expression, isStatement);
                 v.mark(end);
 
                 myFrameMap.leaveTemp(subjectType);
-                tempVariables.remove(expr);
                 return null;
             }
         });
     }
 
+    /**
+     * Generates sequential checks of the given entries of the when expression.
+     * The subject (if any) should be already stored to subjectLocal
+     */
+    public void generateWhenEntries(
+            @NotNull KtWhenExpression expression,
+            @NotNull List<KtWhenEntry> entries,
+            @NotNull Type subjectType,
+            int subjectLocal,
+            @NotNull Type resultType,
+            boolean isStatement,
+            @NotNull Label end
+    ) {
+        KtExpression expr = expression.getSubjectExpression();
+        if (subjectLocal != -1) {
+            tempVariables.put(expr, StackValue.local(subjectLocal, subjectType));
+        }
+
+        boolean hasElse = KtPsiUtil.checkWhenExpressionHasSingleElse(expression);
+
+        Label nextCondition = null;
+        for (KtWhenEntry whenEntry : entries) {
+            if (nextCondition != null) {
+                v.mark(nextCondition);
+            }
+            nextCondition = new Label();
+            FrameMap.Mark mark = myFrameMap.mark();
+            Label thisEntry = new Label();
+            if (!whenEntry.isElse()) {
+                KtWhenCondition[] conditions = whenEntry.getConditions();
+                for (int i = 0; i < conditions.length; i++) {
+                    StackValue conditionValue = generateWhenCondition(subjectType, subjectLocal, conditions[i]);
+                    BranchedValue.Companion.condJump(conditionValue, nextCondition, true, v);
+                    if (i < conditions.length - 1) {
+                        v.goTo(thisEntry);
+                        v.mark(nextCondition);
+                        nextCondition = new Label();
+                    }
+                }
+            }
+
+            v.visitLabel(thisEntry);
+            gen(whenEntry.getExpression(), resultType);
+            mark.dropTo();
+            if (!whenEntry.isElse()) {
+                v.goTo(end);
+            }
+        }
+        if (!hasElse && nextCondition != null) {
+            v.mark(nextCondition);
+            putUnitInstanceOntoStackForNonExhaustiveWhen(expression, isStatement);
+        }
+
+        tempVariables.remove(expr);
+    }
+
     private boolean isExhaustive(@NotNull KtWhenExpression whenExpression, boolean isStatement) {
         if (isStatement) {
             return Boolean.TRUE.equals(bindingContext.get(BindingContext.IMPLICIT_EXHAUSTIVE_WHEN, whenExpression));
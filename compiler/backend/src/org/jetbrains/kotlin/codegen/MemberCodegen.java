@@ -80,6 +80,9 @@ public abstract class MemberCodegen<T extends KtElement/* TODO: & JetDeclaration
     private final MemberCodegen<?> parentCodegen;
     private final ReifiedTypeParametersUsages reifiedTypeParametersUsages = new ReifiedTypeParametersUsages();
     protected final Collection<ClassDescriptor> innerClasses = new LinkedHashSet<ClassDescriptor>();
+    // Identical function references in one declaration share a class (see CodegenAnnotatingVisitor). Code of a declaration
+    // may be generated by several expression codegens (e.g. bodies of $default methods), so generated classes are tracked here
+    private final Map<ClassDescriptor, ClosureCodegen> functionReferenceCodegens = new HashMap<ClassDescriptor, ClosureCodegen>();
 
     protected ExpressionCodegen clInit;
     private NameGenerator inlineNameGenerator;
@@ -537,6 +540,15 @@ public abstract class MemberCodegen<T extends KtElement/* TODO: & JetDeclaration
         return parentCodegen;
     }
 
+    @Nullable
+    ClosureCodegen getFunctionReferenceCodegen(@NotNull ClassDescriptor functionReferenceClass) {
+        return functionReferenceCodegens.get(functionReferenceClass);
+    }
+
+    void recordFunctionReferenceCodegen(@NotNull ClassDescriptor functionReferenceClass, @NotNull ClosureCodegen closureCodegen) {
+        functionReferenceCodegens.put(functionReferenceClass, closureCodegen);
+    }
+
     @Override
     public String toString() {
         return context.toString();
@@ -19,9 +19,14 @@ package org.jetbrains.kotlin.codegen;
 import com.google.common.collect.ImmutableMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.builtins.KotlinBuiltIns;
 import org.jetbrains.kotlin.builtins.PrimitiveType;
 import org.jetbrains.kotlin.descriptors.CallableDescriptor;
+import org.jetbrains.kotlin.descriptors.ClassDescriptor;
 import org.jetbrains.kotlin.descriptors.ClassifierDescriptor;
+import org.jetbrains.kotlin.descriptors.DeclarationDescriptor;
+import org.jetbrains.kotlin.descriptors.PackageFragmentDescriptor;
+import org.jetbrains.kotlin.descriptors.ReceiverParameterDescriptor;
 import org.jetbrains.kotlin.name.FqName;
 import org.jetbrains.kotlin.name.FqNameUnsafe;
 import org.jetbrains.kotlin.name.Name;
@@ -31,6 +36,7 @@ import org.jetbrains.kotlin.types.KotlinType;
 
 import java.util.List;
 
+import static org.jetbrains.kotlin.builtins.KotlinBuiltIns.COLLECTIONS_PACKAGE_FQ_NAME;
 import static org.jetbrains.kotlin.builtins.KotlinBuiltIns.RANGES_PACKAGE_FQ_NAME;
 import static org.jetbrains.kotlin.codegen.AsmUtil.isPrimitiveNumberClassDescriptor;
 
@@ -38,6 +44,12 @@ public class RangeCodegenUtil {
     private static final ImmutableMap<FqName, PrimitiveType> RANGE_TO_ELEMENT_TYPE;
     private static final ImmutableMap<FqName, PrimitiveType> PROGRESSION_TO_ELEMENT_TYPE;
 
+    private static final FqName DOWN_TO_FQ_NAME = RANGES_PACKAGE_FQ_NAME.child(Name.identifier("downTo"));
+    private static final FqName REVERSED_FQ_NAME = RANGES_PACKAGE_FQ_NAME.child(Name.identifier("reversed"));
+    private static final FqName INDICES_FQ_NAME = COLLECTIONS_PACKAGE_FQ_NAME.child(Name.identifier("indices"));
+    private static final FqName WITH_INDEX_FQ_NAME = COLLECTIONS_PACKAGE_FQ_NAME.child(Name.identifier("withIndex"));
+    private static final FqName INDEXED_VALUE_FQ_NAME = COLLECTIONS_PACKAGE_FQ_NAME.child(Name.identifier("IndexedValue"));
+
     private static PrimitiveType[] supportedRangeTypes() {
         return new PrimitiveType[] {
                 PrimitiveType.CHAR,
@@ -78,6 +90,11 @@ public class RangeCodegenUtil {
         // Other binary operations will succeed too, but will be filtered out later (by examining a resolvedCall)
         KtExpression rangeExpression = forExpression.getLoopRange();
         assert rangeExpression != null;
+        return getRangeLiteralAsBinaryCall(rangeExpression);
+    }
+
+    @Nullable
+    public static BinaryCall getRangeLiteralAsBinaryCall(@NotNull KtExpression rangeExpression) {
         KtExpression loopRange = KtPsiUtil.deparenthesize(rangeExpression);
         if (loopRange instanceof KtQualifiedExpression) {
             // a.rangeTo(b)
@@ -143,6 +160,56 @@ public class RangeCodegenUtil {
         return false;
     }
 
+    // a downTo b
+    public static boolean isOptimizableDownTo(@NotNull CallableDescriptor downTo) {
+        ReceiverParameterDescriptor receiver = getTopLevelExtensionReceiver(downTo, DOWN_TO_FQ_NAME);
+        return receiver != null && isPrimitiveNumberClassDescriptor(receiver.getType().getConstructor().getDeclarationDescriptor());
+    }
+
+    // progression.reversed()
+    public static boolean isOptimizableReversed(@NotNull CallableDescriptor reversed) {
+        ReceiverParameterDescriptor receiver = getTopLevelExtensionReceiver(reversed, REVERSED_FQ_NAME);
+        return receiver != null && reversed.getValueParameters().isEmpty() && isProgression(receiver.getType());
+    }
+
+    // array.indices, collection.indices
+    public static boolean isArrayOrCollectionIndices(@NotNull CallableDescriptor indices) {
+        ReceiverParameterDescriptor receiver = getTopLevelExtensionReceiver(indices, INDICES_FQ_NAME);
+        if (receiver == null) return false;
+        KotlinType receiverType = receiver.getType();
+        return isArrayOrPrimitiveArray(receiverType) || KotlinBuiltIns.isCollectionOrNullableCollection(receiverType);
+    }
+
+    // array.withIndex(), iterable.withIndex()
+    public static boolean isArrayOrIterableWithIndex(@NotNull CallableDescriptor withIndex) {
+        ReceiverParameterDescriptor receiver = getTopLevelExtensionReceiver(withIndex, WITH_INDEX_FQ_NAME);
+        if (receiver == null || !withIndex.getValueParameters().isEmpty()) return false;
+        KotlinType receiverType = receiver.getType();
+        return isArrayOrPrimitiveArray(receiverType) || KotlinBuiltIns.isIterableOrNullableIterable(receiverType);
+    }
+
+    // component1() or component2() of IndexedValue
+    public static boolean isIndexedValueComponent(@NotNull CallableDescriptor component) {
+        String name = component.getName().asString();
+        if (!name.equals("component1") && !name.equals("component2")) return false;
+        DeclarationDescriptor containingClass = component.getContainingDeclaration();
+        return containingClass instanceof ClassDescriptor &&
+               INDEXED_VALUE_FQ_NAME.toUnsafe().equals(DescriptorUtils.getFqName(containingClass));
+    }
+
+    public static boolean isArrayOrPrimitiveArray(@NotNull KotlinType type) {
+        return KotlinBuiltIns.isArray(type) || KotlinBuiltIns.isPrimitiveArray(type);
+    }
+
+    @Nullable
+    private static ReceiverParameterDescriptor getTopLevelExtensionReceiver(@NotNull CallableDescriptor descriptor, @NotNull FqName fqName) {
+        if (!(descriptor.getContainingDeclaration() instanceof PackageFragmentDescriptor)) return null;
+        if (!fqName.toUnsafe().equals(DescriptorUtils.getFqName(descriptor))) return null;
+        ReceiverParameterDescriptor receiver = descriptor.getExtensionReceiverParameter();
+        if (receiver == null || receiver.getType().isMarkedNullable()) return null;
+        return receiver;
+    }
+
     public static class BinaryCall {
         public final KtExpression left;
         public final KtExpression op;
@@ -49,6 +49,7 @@ import org.jetbrains.kotlin.resolve.calls.model.ResolvedValueArgument;
 import org.jetbrains.kotlin.resolve.constants.ConstantValue;
 import org.jetbrains.kotlin.resolve.constants.EnumValue;
 import org.jetbrains.kotlin.resolve.constants.NullValue;
+import org.jetbrains.kotlin.resolve.inline.InlineUtil;
 import org.jetbrains.kotlin.resolve.scopes.MemberScope;
 import org.jetbrains.kotlin.resolve.source.KotlinSourceElementKt;
 import org.jetbrains.kotlin.types.KotlinType;
@@ -69,6 +70,8 @@ class CodegenAnnotatingVisitor extends KtVisitorVoid {
 
     private final Map<String, Integer> anonymousSubclassesCount = new HashMap<String, Integer>();
 
+    private final Map<FunctionReferenceKey, ClassDescriptor> functionReferenceClasses = new HashMap<FunctionReferenceKey, ClassDescriptor>();
+
     private final Stack<ClassDescriptor> classStack = new Stack<ClassDescriptor>();
     private final Stack<String> nameStack = new Stack<String>();
 
@@ -296,6 +299,20 @@ class CodegenAnnotatingVisitor extends KtVisitorVoid {
             callableDescriptor = bindingContext.get(FUNCTION, expression);
             if (callableDescriptor == null) return;
 
+            FunctionReferenceKey key = createFunctionReferenceKey(expression, callableDescriptor, target);
+            ClassDescriptor existingClass = key != null ? functionReferenceClasses.get(key) : null;
+            if (existingClass != null) {
+                // The same function is already referenced with the same type in this declaration,
+                // there's no need to generate one more class: it would be exactly the same
+                bindingTrace.record(CLASS_FOR_CALLABLE, callableDescriptor, existingClass);
+                classStack.push(existingClass);
+                nameStack.push(CodegenBinding.getAsmType(bindingContext, existingClass).getInternalName());
+                super.visitCallableReferenceExpression(expression);
+                nameStack.pop();
+                classStack.pop();
+                return;
+            }
+
             supertypes = runtimeTypes.getSupertypesForFunctionReference((FunctionDescriptor) target);
         }
         else if (target instanceof PropertyDescriptor) {
@@ -312,6 +329,13 @@ class CodegenAnnotatingVisitor extends KtVisitorVoid {
         ClassDescriptor classDescriptor = recordClassForCallable(expression, callableDescriptor, supertypes, name);
         recordClosure(classDescriptor, name);
 
+        if (target instanceof FunctionDescriptor) {
+            FunctionReferenceKey key = createFunctionReferenceKey(expression, callableDescriptor, target);
+            if (key != null) {
+                functionReferenceClasses.put(key, classDescriptor);
+            }
+        }
+
         classStack.push(classDescriptor);
         nameStack.push(name);
         super.visitCallableReferenceExpression(expression);
@@ -319,6 +343,25 @@ class CodegenAnnotatingVisitor extends KtVisitorVoid {
         classStack.pop();
     }
 
+    @Nullable
+    private FunctionReferenceKey createFunctionReferenceKey(
+            @NotNull KtCallableReferenceExpression expression,
+            @NotNull CallableDescriptor callableDescriptor,
+            @NotNull CallableDescriptor target
+    ) {
+        // References to local functions capture their closure. Anonymous classes in inline functions are regenerated
+        // by the inliner at each call site, so they are not shared either
+        if (DescriptorUtils.isLocal(target)) return null;
+
+        DeclarationDescriptor container = correctContainerForLambda(callableDescriptor, expression);
+        if (InlineUtil.isInlineOrContainingInline(container)) return null;
+
+        KotlinType type = bindingContext.getType(expression);
+        if (type == null) return null;
+
+        return new FunctionReferenceKey(container, target.getOriginal(), type);
+    }
+
     private void recordClosure(@NotNull ClassDescriptor classDescriptor, @NotNull String name) {
         CodegenBinding.recordClosure(bindingTrace, classDescriptor, peekFromStack(classStack), Type.getObjectType(name),
                                      fileClassesProvider);
@@ -576,4 +619,33 @@ class CodegenAnnotatingVisitor extends KtVisitorVoid {
     private static <T> T peekFromStack(@NotNull Stack<T> stack) {
         return stack.empty() ? null : stack.peek();
     }
+
+    private static class FunctionReferenceKey {
+        private final DeclarationDescriptor container;
+        private final CallableDescriptor target;
+        private final KotlinType type;
+
+        public FunctionReferenceKey(@NotNull DeclarationDescriptor container, @NotNull CallableDescriptor target, @NotNull KotlinType type) {
+            this.container = container;
+            this.target = target;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FunctionReferenceKey)) return false;
+
+            FunctionReferenceKey key = (FunctionReferenceKey) o;
+            return container.equals(key.container) && target.equals(key.target) && type.equals(key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = container.hashCode();
+            result = 31 * result + target.hashCode();
+            result = 31 * result + type.hashCode();
+            return result;
+        }
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2010-2016 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.inline
+
+import org.jetbrains.kotlin.name.ClassId
+import org.jetbrains.kotlin.util.PerformanceCounter
+import org.jetbrains.org.objectweb.asm.commons.Method
+import org.jetbrains.org.objectweb.asm.tree.MethodNode
+import java.util.*
+
+data class MethodId(val ownerId: ClassId, val method: Method)
+
+/**
+ * Bodies of compiled inline functions, read from class files once per generation state.
+ * Inlining modifies method nodes, so every call site gets its own copy of the cached node.
+ */
+class InlineCache {
+    private val methodNodeById = HashMap<MethodId, SMAPAndMethodNode>()
+
+    fun getMethodNode(id: MethodId): SMAPAndMethodNode? {
+        val template = methodNodeById[id] ?: return null
+        cachedMethodNodes.increment()
+        return copy(template)
+    }
+
+    // Returns a copy of the given node, which is kept as a template for subsequent requests
+    fun putMethodNode(id: MethodId, template: SMAPAndMethodNode): SMAPAndMethodNode {
+        methodNodeById[id] = template
+        loadedMethodNodes.increment()
+        return copy(template)
+    }
+
+    private fun copy(template: SMAPAndMethodNode): SMAPAndMethodNode {
+        val node = template.node
+        val result = MethodNode(InlineCodegenUtil.API, node.access, node.name, node.desc, node.signature, node.exceptions?.toTypedArray())
+        // MethodNode.accept() resets labels, so the copy gets labels of its own
+        node.accept(result)
+        return SMAPAndMethodNode(result, template.classSMAP)
+    }
+
+    companion object {
+        private val loadedMethodNodes = PerformanceCounter.create("Inline function bodies loaded from class files")
+        private val cachedMethodNodes = PerformanceCounter.create("Inline function bodies taken from cache")
+    }
+}
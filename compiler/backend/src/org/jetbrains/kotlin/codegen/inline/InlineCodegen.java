@@ -207,17 +207,23 @@ public class InlineCodegen extends CallGenerator {
                     (DeserializedSimpleFunctionDescriptor) functionDescriptor);
 
             ClassId containerId = containingClasses.getImplClassId();
-            VirtualFile file = InlineCodegenUtil.findVirtualFile(state, containerId);
-            if (file == null) {
-                throw new IllegalStateException("Couldn't find declaration file for " + containerId);
-            }
+            MethodId methodId = new MethodId(containerId, asmMethod);
+            nodeAndSMAP = state.getInlineCache().getMethodNode(methodId);
+            if (nodeAndSMAP == null) {
+                VirtualFile file = InlineCodegenUtil.findVirtualFile(state, containerId);
+                if (file == null) {
+                    throw new IllegalStateException("Couldn't find declaration file for " + containerId);
+                }
 
-            nodeAndSMAP = InlineCodegenUtil.getMethodNode(
-                    file.contentsToByteArray(), asmMethod.getName(), asmMethod.getDescriptor(), containerId
-            );
+                SMAPAndMethodNode template = InlineCodegenUtil.getMethodNode(
+                        file.contentsToByteArray(), asmMethod.getName(), asmMethod.getDescriptor(), containerId
+                );
 
-            if (nodeAndSMAP == null) {
-                throw new IllegalStateException("Couldn't obtain compiled function body for " + descriptorName(functionDescriptor));
+                if (template == null) {
+                    throw new IllegalStateException("Couldn't obtain compiled function body for " + descriptorName(functionDescriptor));
+                }
+
+                nodeAndSMAP = state.getInlineCache().putMethodNode(methodId, template);
             }
         }
         else {
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2010-2016 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization
+
+import org.jetbrains.kotlin.codegen.StackValue
+import org.jetbrains.kotlin.codegen.optimization.common.isMeaningful
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
+import org.jetbrains.kotlin.resolve.jvm.AsmTypes
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.jetbrains.org.objectweb.asm.Type
+import org.jetbrains.org.objectweb.asm.tree.*
+import org.jetbrains.org.objectweb.asm.tree.analysis.Frame
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceInterpreter
+import org.jetbrains.org.objectweb.asm.tree.analysis.SourceValue
+import java.util.*
+
+/**
+ * Replaces kotlin.jvm.internal.Ref.*Ref objects, which are created for captured local variables,
+ * with plain local variables when the Ref object doesn't escape the method,
+ * i.e. when all the lambdas capturing the variable were inlined.
+ */
+class CapturedVarsOptimizationMethodTransformer : MethodTransformer() {
+    override fun transform(internalClassName: String, methodNode: MethodNode) {
+        val transformer = Transformer(methodNode)
+        if (!transformer.createRefValues()) return
+
+        val interpreter = UsageRecordingInterpreter()
+        val frames = MethodTransformer.analyze(internalClassName, methodNode, interpreter)
+        transformer.run(interpreter, frames)
+    }
+
+    private class CapturedVarDescriptor(val newInsn: TypeInsnNode, val dupInsn: AbstractInsnNode, val initInsn: AbstractInsnNode) {
+        val refType: Type = Type.getObjectType(newInsn.desc)
+        val valueType: Type = REF_ELEMENT_TYPES[newInsn.desc]!!
+
+        // NEW, ALOAD, ASTORE and DUP instructions which operate on the Ref object itself
+        val refInsns = LinkedHashSet<AbstractInsnNode>()
+        val fieldInsns = ArrayList<FieldInsnNode>()
+        val popInsns = ArrayList<AbstractInsnNode>()
+        val dupXInsns = ArrayList<AbstractInsnNode>()
+
+        var hazard = false
+        var localVar = -1
+
+        init {
+            refInsns.add(newInsn)
+            refInsns.add(dupInsn)
+        }
+
+        fun isElementField(insn: AbstractInsnNode): Boolean =
+                insn is FieldInsnNode && insn.owner == refType.internalName && insn.name == "element"
+    }
+
+    private class UsageRecordingInterpreter : SourceInterpreter() {
+        val usedValues = HashMap<AbstractInsnNode, List<SourceValue>>()
+
+        // The analyzer interprets an instruction for the last time with its final frame,
+        // so it's enough to remember the last set of values used by each instruction
+        override fun copyOperation(insn: AbstractInsnNode, value: SourceValue): SourceValue {
+            usedValues[insn] = listOf(value)
+            return super.copyOperation(insn, value)
+        }
+
+        override fun unaryOperation(insn: AbstractInsnNode, value: SourceValue): SourceValue {
+            usedValues[insn] = listOf(value)
+            return super.unaryOperation(insn, value)
+        }
+
+        override fun binaryOperation(insn: AbstractInsnNode, value1: SourceValue, value2: SourceValue): SourceValue {
+            usedValues[insn] = listOf(value1, value2)
+            return super.binaryOperation(insn, value1, value2)
+        }
+
+        override fun ternaryOperation(insn: AbstractInsnNode, value1: SourceValue, value2: SourceValue, value3: SourceValue): SourceValue {
+            usedValues[insn] = listOf(value1, value2, value3)
+            return super.ternaryOperation(insn, value1, value2, value3)
+        }
+
+        override fun naryOperation(insn: AbstractInsnNode, values: List<SourceValue>): SourceValue {
+            usedValues[insn] = ArrayList(values)
+            return super.naryOperation(insn, values)
+        }
+    }
+
+    private class Transformer(private val methodNode: MethodNode) {
+        private val refValues = LinkedHashMap<AbstractInsnNode, CapturedVarDescriptor>()
+
+        fun run(interpreter: UsageRecordingInterpreter, frames: Array<out Frame<SourceValue>?>) {
+            trackRefInsns(interpreter)
+            checkUsages(interpreter, frames)
+
+            val refsToRewrite = refValues.values.toSet().filter { !it.hazard }
+            if (refsToRewrite.isEmpty()) return
+
+            for (refValue in refsToRewrite) {
+                refValue.localVar = methodNode.maxLocals
+                methodNode.maxLocals += refValue.valueType.size
+            }
+
+            rewriteLocalVariables(refsToRewrite)
+            for (refValue in refsToRewrite) {
+                rewriteInsns(refValue)
+            }
+        }
+
+        fun createRefValues(): Boolean {
+            for (insn in methodNode.instructions.toArray()) {
+                if (insn.opcode != Opcodes.NEW) continue
+                insn as TypeInsnNode
+                if (insn.desc !in REF_ELEMENT_TYPES) continue
+
+                // NEW Ref; DUP; INVOKESPECIAL Ref.<init>()V
+                val dupInsn = insn.nextMeaningful ?: continue
+                if (dupInsn.opcode != Opcodes.DUP) continue
+                val initInsn = dupInsn.nextMeaningful ?: continue
+                if (initInsn !is MethodInsnNode || initInsn.opcode != Opcodes.INVOKESPECIAL ||
+                    initInsn.owner != insn.desc || initInsn.name != "<init>" || initInsn.desc != "()V") continue
+
+                val refValue = CapturedVarDescriptor(insn, dupInsn, initInsn)
+                refValues[insn] = refValue
+                refValues[dupInsn] = refValue
+            }
+            return refValues.isNotEmpty()
+        }
+
+        private fun findRefValue(value: SourceValue): CapturedVarDescriptor? {
+            var result: CapturedVarDescriptor? = null
+            for (source in value.insns) {
+                val refValue = refValues[source] ?: continue
+                if (result != null && result != refValue) {
+                    // Different Ref objects are merged into a single value
+                    result.hazard = true
+                    refValue.hazard = true
+                }
+                result = refValue
+            }
+            return result
+        }
+
+        private fun trackRefInsns(interpreter: UsageRecordingInterpreter) {
+            var changed = true
+            while (changed) {
+                changed = false
+                for ((insn, values) in interpreter.usedValues) {
+                    if (insn in refValues) continue
+                    if (insn.opcode != Opcodes.ALOAD && insn.opcode != Opcodes.ASTORE && insn.opcode != Opcodes.DUP) continue
+
+                    val refValue = findRefValue(values.single()) ?: continue
+                    refValue.refInsns.add(insn)
+                    refValues[insn] = refValue
+                    changed = true
+                }
+            }
+        }
+
+        private fun checkUsages(interpreter: UsageRecordingInterpreter, frames: Array<out Frame<SourceValue>?>) {
+            for ((insn, values) in interpreter.usedValues) {
+                values.forEachIndexed { index, value ->
+                    val refValue = findUnmergedRefValue(value) ?: return@forEachIndexed
+
+                    if (refValue.hazard) {
+                        // The Ref object is merged with some other value
+                    }
+                    else if (insn in refValue.refInsns) {
+                        // Loaded, stored or duplicated
+                    }
+                    else if (insn == refValue.initInsn) {
+                        // Constructor call
+                    }
+                    else if (refValue.isElementField(insn) && (insn.opcode == Opcodes.GETFIELD || index == 0)) {
+                        refValue.fieldInsns.add(insn as FieldInsnNode)
+                    }
+                    else {
+                        // Passed somewhere: e.g. to a closure constructor or to a method call
+                        refValue.hazard = true
+                    }
+                }
+            }
+
+            // Stack manipulation instructions which don't go through the interpreter
+            val insns = methodNode.instructions
+            for (i in 0..insns.size() - 1) {
+                val insn = insns.get(i)
+                val frame = frames[i] ?: continue
+                when (insn.opcode) {
+                    Opcodes.POP -> {
+                        findUnmergedRefValue(frame.peek(0))?.popInsns?.add(insn)
+                    }
+                    Opcodes.DUP_X1 -> {
+                        // Ref, value -> value, Ref, value
+                        checkNoRefValues(frame, 0)
+                        findUnmergedRefValue(frame.peek(1))?.dupXInsns?.add(insn)
+                    }
+                    Opcodes.DUP2_X1 -> {
+                        // Ref, value2 -> value2, Ref, value2
+                        if (frame.peek(0).size == 2) {
+                            findUnmergedRefValue(frame.peek(1))?.dupXInsns?.add(insn)
+                        }
+                        else {
+                            checkNoRefValues(frame, 0, 1, 2)
+                        }
+                    }
+                    Opcodes.POP2, Opcodes.SWAP, Opcodes.DUP2 -> checkNoRefValues(frame, 0, 1)
+                    Opcodes.DUP_X2 -> checkNoRefValues(frame, 0, 1, 2)
+                    Opcodes.DUP2_X2 -> checkNoRefValues(frame, 0, 1, 2, 3)
+                }
+            }
+        }
+
+        private fun findUnmergedRefValue(value: SourceValue): CapturedVarDescriptor? {
+            val refValue = findRefValue(value) ?: return null
+            if (value.insns.any { refValues[it] != refValue }) {
+                refValue.hazard = true
+            }
+            return refValue
+        }
+
+        private fun checkNoRefValues(frame: Frame<SourceValue>, vararg depths: Int) {
+            for (depth in depths) {
+                if (depth >= frame.stackSize) return
+                findRefValue(frame.peek(depth))?.hazard = true
+            }
+        }
+
+        private fun rewriteLocalVariables(refsToRewrite: List<CapturedVarDescriptor>) {
+            for (localVariable in methodNode.localVariables) {
+                val refValue = refsToRewrite.firstOrNull {
+                    localVariable.desc == it.refType.descriptor && it.isLastStoredBefore(localVariable)
+                } ?: continue
+
+                localVariable.index = refValue.localVar
+                localVariable.desc = refValue.valueType.descriptor
+                localVariable.signature = null
+            }
+        }
+
+        private fun CapturedVarDescriptor.isLastStoredBefore(localVariable: LocalVariableNode): Boolean {
+            var insn: AbstractInsnNode? = localVariable.start.previous
+            while (insn != null && !(insn.opcode == Opcodes.ASTORE && (insn as VarInsnNode).`var` == localVariable.index)) {
+                insn = insn.previous
+            }
+            return insn != null && insn in refInsns
+        }
+
+        private fun rewriteInsns(refValue: CapturedVarDescriptor) {
+            val insns = methodNode.instructions
+
+            // The Ref object is initialized with the default value of its element
+            insns.insertBefore(refValue.newInsn, defaultValueInsn(refValue.valueType))
+            insns.insertBefore(refValue.newInsn, VarInsnNode(refValue.valueType.getOpcode(Opcodes.ISTORE), refValue.localVar))
+            insns.remove(refValue.initInsn)
+
+            for (insn in refValue.refInsns) {
+                insns.remove(insn)
+            }
+
+            for (insn in refValue.popInsns) {
+                insns.remove(insn)
+            }
+
+            for (insn in refValue.dupXInsns) {
+                insns.set(insn, InsnNode(if (insn.opcode == Opcodes.DUP_X1) Opcodes.DUP else Opcodes.DUP2))
+            }
+
+            for (insn in refValue.fieldInsns) {
+                val opcode = if (insn.opcode == Opcodes.GETFIELD) Opcodes.ILOAD else Opcodes.ISTORE
+                insns.set(insn, VarInsnNode(refValue.valueType.getOpcode(opcode), refValue.localVar))
+            }
+        }
+    }
+
+    companion object {
+        private val REF_ELEMENT_TYPES: Map<String, Type> = hashMapOf<String, Type>().apply {
+            for (type in listOf(Type.BOOLEAN_TYPE, Type.CHAR_TYPE, Type.BYTE_TYPE, Type.SHORT_TYPE, Type.INT_TYPE,
+                                Type.FLOAT_TYPE, Type.LONG_TYPE, Type.DOUBLE_TYPE, AsmTypes.OBJECT_TYPE)) {
+                put(StackValue.sharedTypeForType(type).internalName, StackValue.refType(type))
+            }
+        }
+
+        private val AbstractInsnNode.nextMeaningful: AbstractInsnNode?
+            get() {
+                var insn = next
+                while (insn != null && !insn.isMeaningful) {
+                    insn = insn.next
+                }
+                return insn
+            }
+
+        private fun Frame<SourceValue>.peek(depth: Int): SourceValue = getStack(stackSize - 1 - depth)
+
+        private fun defaultValueInsn(type: Type): AbstractInsnNode =
+                when (type.sort) {
+                    Type.LONG -> InsnNode(Opcodes.LCONST_0)
+                    Type.FLOAT -> InsnNode(Opcodes.FCONST_0)
+                    Type.DOUBLE -> InsnNode(Opcodes.DCONST_0)
+                    Type.OBJECT, Type.ARRAY -> InsnNode(Opcodes.ACONST_NULL)
+                    else -> InsnNode(Opcodes.ICONST_0)
+                }
+    }
+}
@@ -39,6 +39,7 @@ public class OptimizationMethodVisitor extends MethodVisitor {
     private static final MethodTransformer MANDATORY_METHOD_TRANSFORMER = new MandatoryMethodTransformer();
 
     private static final MethodTransformer[] OPTIMIZATION_TRANSFORMERS = new MethodTransformer[] {
+            new CapturedVarsOptimizationMethodTransformer(),
             new RedundantNullCheckMethodTransformer(),
             new RedundantBoxingMethodTransformer(),
             new DeadCodeEliminationMethodTransformer(),
@@ -20,6 +20,7 @@ import com.google.common.collect.Maps;
 import com.intellij.openapi.util.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.kotlin.codegen.ExpressionCodegen;
+import org.jetbrains.kotlin.psi.KtWhenEntry;
 import org.jetbrains.kotlin.psi.KtWhenExpression;
 import org.jetbrains.kotlin.resolve.constants.ConstantValue;
 import org.jetbrains.kotlin.resolve.constants.StringValue;
@@ -35,15 +36,15 @@ public class StringSwitchCodegen extends SwitchCodegen {
     private static final String EQUALS_METHOD_DESC = Type.getMethodDescriptor(Type.BOOLEAN_TYPE, Type.getType(Object.class));
 
     private final Map<Integer, List<Pair<String, Label>>> hashCodesToStringAndEntryLabel = Maps.newHashMap();
-    private int tempVarIndex;
 
     public StringSwitchCodegen(
             @NotNull KtWhenExpression expression,
+            @NotNull List<KtWhenEntry> switchEntries,
             boolean isStatement,
             boolean isExhaustive,
             @NotNull ExpressionCodegen codegen
     ) {
-        super(expression, isStatement, isExhaustive, codegen);
+        super(expression, switchEntries, isStatement, isExhaustive, codegen);
     }
 
     @Override
@@ -64,18 +65,14 @@ public class StringSwitchCodegen extends SwitchCodegen {
     }
 
     @Override
-    public void generate() {
-        super.generate();
-        codegen.myFrameMap.leaveTemp(subjectType);
+    protected boolean isSubjectLocalNeeded() {
+        // the subject is compared with the constants after the hash code lookup
+        return true;
     }
 
     @Override
     protected void generateSubject() {
-        tempVarIndex = codegen.myFrameMap.enterTemp(subjectType);
         super.generateSubject();
-        v.store(tempVarIndex, subjectType);
-
-        v.load(tempVarIndex, subjectType);
 
         generateNullCheckIfNeeded();
 
@@ -100,7 +97,7 @@ public class StringSwitchCodegen extends SwitchCodegen {
 
                 Pair<String, Label> stringAndEntryLabel = items.get(i);
 
-                v.load(tempVarIndex, subjectType);
+                v.load(subjectLocal, subjectType);
                 v.aconst(stringAndEntryLabel.first);
                 v.invokevirtual(
                         subjectType.getInternalName(),
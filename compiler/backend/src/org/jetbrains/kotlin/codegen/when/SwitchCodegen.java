@@ -42,6 +42,12 @@ abstract public class SwitchCodegen {
     protected final Type resultType;
     protected final InstructionAdapter v;
 
+    // Leading entries whose conditions are all constants, they are dispatched by the switch instruction
+    protected final List<KtWhenEntry> switchEntries;
+    // Entries after the first one with a non-constant condition, they are checked one by one if the switch doesn't match
+    protected final List<KtWhenEntry> remainingEntries;
+    protected int subjectLocal = -1;
+
     protected final NavigableMap<Integer, Label> transitionsTable = new TreeMap<Integer, Label>();
     protected final List<Label> entryLabels = new ArrayList<Label>();
     protected Label elseLabel = new Label();
@@ -51,8 +57,18 @@ abstract public class SwitchCodegen {
     public SwitchCodegen(
             @NotNull KtWhenExpression expression, boolean isStatement,
             boolean isExhaustive, @NotNull ExpressionCodegen codegen
+    ) {
+        this(expression, expression.getEntries(), isStatement, isExhaustive, codegen);
+    }
+
+    public SwitchCodegen(
+            @NotNull KtWhenExpression expression, @NotNull List<KtWhenEntry> switchEntries,
+            boolean isStatement, boolean isExhaustive, @NotNull ExpressionCodegen codegen
     ) {
         this.expression = expression;
+        List<KtWhenEntry> entries = expression.getEntries();
+        this.switchEntries = switchEntries;
+        this.remainingEntries = entries.subList(switchEntries.size(), entries.size());
         this.isStatement = isStatement;
         this.isExhaustive = isExhaustive;
         this.codegen = codegen;
@@ -71,8 +87,14 @@ abstract public class SwitchCodegen {
 
         boolean hasElse = expression.getElseExpression() != null;
 
-        // if there is no else-entry and it's statement then default --- endLabel
-        defaultLabel = (hasElse || !isStatement || isExhaustive) ? elseLabel : endLabel;
+        if (!remainingEntries.isEmpty()) {
+            // if none of the constants matched, the rest of the entries are checked sequentially
+            defaultLabel = new Label();
+        }
+        else {
+            // if there is no else-entry and it's statement then default --- endLabel
+            defaultLabel = (hasElse || !isStatement || isExhaustive) ? elseLabel : endLabel;
+        }
 
         generateSubject();
 
@@ -80,14 +102,22 @@ abstract public class SwitchCodegen {
 
         generateEntries();
 
+        if (!remainingEntries.isEmpty()) {
+            v.visitLabel(defaultLabel);
+            codegen.generateWhenEntries(expression, remainingEntries, subjectType, subjectLocal, resultType, isStatement, endLabel);
+        }
         // there is no else-entry but this is not statement, so we should return Unit
-        if (!hasElse && (!isStatement || isExhaustive)) {
+        else if (!hasElse && (!isStatement || isExhaustive)) {
             v.visitLabel(elseLabel);
             codegen.putUnitInstanceOntoStackForNonExhaustiveWhen(expression, isStatement);
         }
 
         codegen.markLineNumber(expression, isStatement);
         v.mark(endLabel);
+
+        if (subjectLocal != -1) {
+            codegen.myFrameMap.leaveTemp(subjectType);
+        }
     }
 
     /**
@@ -95,7 +125,7 @@ abstract public class SwitchCodegen {
      * Behaviour may be changed by overriding processConstant
      */
     private void prepareConfiguration() {
-        for (KtWhenEntry entry : expression.getEntries()) {
+        for (KtWhenEntry entry : switchEntries) {
             Label entryLabel = new Label();
 
             for (ConstantValue<?> constant : SwitchCodegenUtil.getConstantsFromEntry(entry, bindingContext)) {
@@ -125,10 +155,21 @@ abstract public class SwitchCodegen {
     /**
      * Should generate int subject on top of the stack
      * Default implementation just run codegen for actual subject of expression
+     * and saves it to subjectLocal if it's needed later
      * May also gen nullability check if needed
      */
     protected void generateSubject() {
         codegen.gen(expression.getSubjectExpression(), subjectType);
+
+        if (isSubjectLocalNeeded()) {
+            subjectLocal = codegen.myFrameMap.enterTemp(subjectType);
+            v.store(subjectLocal, subjectType);
+            v.load(subjectLocal, subjectType);
+        }
+    }
+
+    protected boolean isSubjectLocalNeeded() {
+        return !remainingEntries.isEmpty();
     }
 
     protected void generateNullCheckIfNeeded() {
@@ -138,7 +179,7 @@ abstract public class SwitchCodegen {
         assert subjectJetType != null : "subject type can't be null (i.e. void)";
 
         if (TypeUtils.isNullableType(subjectJetType)) {
-            int nullEntryIndex = findNullEntryIndex(expression);
+            int nullEntryIndex = findNullEntryIndex();
             Label nullLabel = nullEntryIndex == -1 ? defaultLabel : entryLabels.get(nullEntryIndex);
             Label notNullLabel = new Label();
 
@@ -153,9 +194,9 @@ abstract public class SwitchCodegen {
         }
     }
 
-    private int findNullEntryIndex(@NotNull KtWhenExpression expression) {
+    private int findNullEntryIndex() {
         int entryIndex = 0;
-        for (KtWhenEntry entry : expression.getEntries()) {
+        for (KtWhenEntry entry : switchEntries) {
             for (ConstantValue<?> constant : SwitchCodegenUtil.getConstantsFromEntry(entry, bindingContext)) {
                 if (constant instanceof NullValue) {
                     return entryIndex;
@@ -216,7 +257,7 @@ abstract public class SwitchCodegen {
     protected void generateEntries() {
         // resolving entries' entryLabels and generating entries' code
         Iterator<Label> entryLabelsIterator = entryLabels.iterator();
-        for (KtWhenEntry entry : expression.getEntries()) {
+        for (KtWhenEntry entry : switchEntries) {
             v.visitLabel(entryLabelsIterator.next());
 
             FrameMap.Mark mark = codegen.myFrameMap.mark();
@@ -33,26 +33,55 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class SwitchCodegenUtil {
+    // Checking a couple of constants one by one is cheaper than calling hashCode() and doing a lookup
+    private static final int MIN_CONSTANTS_FOR_PARTIAL_SWITCH = 3;
+
+    private static final Function1<ConstantValue<?>, Boolean> IS_INTEGRAL_CONSTANT = new Function1<ConstantValue<?>, Boolean>() {
+        @Override
+        public Boolean invoke(@NotNull ConstantValue<?> constant) {
+            return constant instanceof IntegerValueConstant;
+        }
+    };
+
+    private static final Function1<ConstantValue<?>, Boolean> IS_STRING_CONSTANT = new Function1<ConstantValue<?>, Boolean>() {
+        @Override
+        public Boolean invoke(@NotNull ConstantValue<?> constant) {
+            return constant instanceof StringValue || constant instanceof NullValue;
+        }
+    };
+
     public static boolean checkAllItemsAreConstantsSatisfying(
             @NotNull KtWhenExpression expression,
             @NotNull BindingContext bindingContext,
             Function1<ConstantValue<?>, Boolean> predicate
     ) {
         for (KtWhenEntry entry : expression.getEntries()) {
-            for (KtWhenCondition condition : entry.getConditions()) {
-                if (!(condition instanceof KtWhenConditionWithExpression)) {
-                    return false;
-                }
+            if (!checkAllItemsAreConstantsSatisfying(entry, bindingContext, predicate)) {
+                return false;
+            }
+        }
 
-                // ensure that expression is constant
-                KtExpression patternExpression = ((KtWhenConditionWithExpression) condition).getExpression();
+        return true;
+    }
 
-                if (patternExpression == null) return false;
+    private static boolean checkAllItemsAreConstantsSatisfying(
+            @NotNull KtWhenEntry entry,
+            @NotNull BindingContext bindingContext,
+            Function1<ConstantValue<?>, Boolean> predicate
+    ) {
+        for (KtWhenCondition condition : entry.getConditions()) {
+            if (!(condition instanceof KtWhenConditionWithExpression)) {
+                return false;
+            }
+
+            // ensure that expression is constant
+            KtExpression patternExpression = ((KtWhenConditionWithExpression) condition).getExpression();
+
+            if (patternExpression == null) return false;
 
-                ConstantValue<?> constant = ExpressionCodegen.getCompileTimeConstant(patternExpression, bindingContext);
-                if (constant == null || !predicate.invoke(constant)) {
-                    return false;
-                }
+            ConstantValue<?> constant = ExpressionCodegen.getCompileTimeConstant(patternExpression, bindingContext);
+            if (constant == null || !predicate.invoke(constant)) {
+                return false;
             }
         }
 
@@ -106,78 +135,77 @@ public class SwitchCodegenUtil {
             @NotNull ExpressionCodegen codegen
     ) {
         BindingContext bindingContext = codegen.getBindingContext();
-        if (!isThereConstantEntriesButNulls(expression, bindingContext)) {
-            return null;
-        }
-
         Type subjectType = codegen.expressionType(expression.getSubjectExpression());
 
         WhenByEnumsMapping mapping = codegen.getBindingContext().get(CodegenBinding.MAPPING_FOR_WHEN_BY_ENUM, expression);
 
         if (mapping != null) {
+            if (countConstantsButNulls(expression.getEntries(), bindingContext) == 0) return null;
             return new EnumSwitchCodegen(expression, isStatement, isExhaustive, codegen, mapping);
         }
 
-        if (isIntegralConstantsSwitch(expression, subjectType, bindingContext)) {
-            return new IntegralConstantsSwitchCodegen(expression, isStatement, isExhaustive, codegen);
+        if (isIntegralType(subjectType)) {
+            List<KtWhenEntry> switchEntries = getSwitchEntries(expression, bindingContext, IS_INTEGRAL_CONSTANT);
+            if (switchEntries != null) {
+                return new IntegralConstantsSwitchCodegen(expression, switchEntries, isStatement, isExhaustive, codegen);
+            }
         }
 
-        if (isStringConstantsSwitch(expression, subjectType, bindingContext)) {
-            return new StringSwitchCodegen(expression, isStatement, isExhaustive, codegen);
+        if (subjectType.getClassName().equals(String.class.getName())) {
+            List<KtWhenEntry> switchEntries = getSwitchEntries(expression, bindingContext, IS_STRING_CONSTANT);
+            if (switchEntries != null) {
+                return new StringSwitchCodegen(expression, switchEntries, isStatement, isExhaustive, codegen);
+            }
         }
 
         return null;
     }
 
-    private static boolean isThereConstantEntriesButNulls(
+    /**
+     * Returns the leading entries of the when expression which can be dispatched by a switch instruction,
+     * or null if the switch is not worth generating.
+     * All the entries are returned when every condition in the expression is a constant satisfying the predicate,
+     * otherwise the entries after the first non-constant condition are left to be checked sequentially
+     */
+    @Nullable
+    private static List<KtWhenEntry> getSwitchEntries(
             @NotNull KtWhenExpression expression,
-            @NotNull BindingContext bindingContext
+            @NotNull BindingContext bindingContext,
+            @NotNull Function1<ConstantValue<?>, Boolean> predicate
     ) {
-        for (ConstantValue<?> constant : getAllConstants(expression, bindingContext)) {
-            if (constant != null && !(constant instanceof NullValue)) return true;
-        }
+        List<KtWhenEntry> entries = expression.getEntries();
 
-        return false;
-    }
-
-    private static boolean isIntegralConstantsSwitch(
-            @NotNull KtWhenExpression expression,
-            @NotNull Type subjectType,
-            @NotNull BindingContext bindingContext
-    ) {
-        int typeSort = subjectType.getSort();
+        int count = 0;
+        while (count < entries.size() &&
+               !entries.get(count).isElse() &&
+               checkAllItemsAreConstantsSatisfying(entries.get(count), bindingContext, predicate)) {
+            count++;
+        }
 
-        if (typeSort != Type.INT && typeSort != Type.CHAR && typeSort != Type.SHORT && typeSort != Type.BYTE) {
-            return false;
+        if (count == entries.size() || (count == entries.size() - 1 && entries.get(count).isElse())) {
+            return countConstantsButNulls(entries, bindingContext) > 0 ? entries : null;
         }
 
-        return checkAllItemsAreConstantsSatisfying(expression, bindingContext, new Function1<ConstantValue<?>, Boolean>() {
-            @Override
-            public Boolean invoke(
-                    @NotNull ConstantValue<?> constant
-            ) {
-                return constant instanceof IntegerValueConstant;
-            }
-        });
+        List<KtWhenEntry> switchEntries = entries.subList(0, count);
+        return countConstantsButNulls(switchEntries, bindingContext) >= MIN_CONSTANTS_FOR_PARTIAL_SWITCH ? switchEntries : null;
     }
 
-    private static boolean isStringConstantsSwitch(
-            @NotNull KtWhenExpression expression,
-            @NotNull Type subjectType,
+    private static int countConstantsButNulls(
+            @NotNull List<KtWhenEntry> entries,
             @NotNull BindingContext bindingContext
     ) {
-
-        if (!subjectType.getClassName().equals(String.class.getName())) {
-            return false;
+        int result = 0;
+        for (KtWhenEntry entry : entries) {
+            for (ConstantValue<?> constant : getConstantsFromEntry(entry, bindingContext)) {
+                if (constant != null && !(constant instanceof NullValue)) result++;
+            }
         }
 
-        return checkAllItemsAreConstantsSatisfying(expression, bindingContext, new Function1<ConstantValue<?>, Boolean>() {
-            @Override
-            public Boolean invoke(
-                    @NotNull ConstantValue<?> constant
-            ) {
-                return constant instanceof StringValue || constant instanceof NullValue;
-            }
-        });
+        return result;
+    }
+
+    private static boolean isIntegralType(@NotNull Type subjectType) {
+        int typeSort = subjectType.getSort();
+        return typeSort == Type.INT || typeSort == Type.CHAR || typeSort == Type.SHORT || typeSort == Type.BYTE;
     }
 }
@@ -73,6 +73,9 @@ public class K2JVMCompilerArguments extends CommonCompilerArguments {
     @Argument(value = "Xskip-metadata-version-check", description = "Try loading binary incompatible classes, may cause crashes")
     public boolean skipMetadataVersionCheck;
 
+    @Argument(value = "Xparallel-parsing", description = "Parse source files in parallel before analysis")
+    public boolean parallelParsing;
+
     // Paths to output directories for friend modules.
     public String[] friendPaths;
 
@@ -38,6 +38,7 @@ import org.jetbrains.kotlin.load.java.JvmAbi
 import org.jetbrains.kotlin.load.kotlin.JvmMetadataVersion
 import org.jetbrains.kotlin.load.kotlin.incremental.components.IncrementalCompilationComponents
 import org.jetbrains.kotlin.script.StandardScriptDefinition
+import org.jetbrains.kotlin.types.checker.TypeCheckerCache
 import org.jetbrains.kotlin.util.PerformanceCounter
 import org.jetbrains.kotlin.utils.KotlinPaths
 import org.jetbrains.kotlin.utils.KotlinPathsFromHomeDir
@@ -57,6 +58,12 @@ open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
 
         messageSeverityCollector.report(CompilerMessageSeverity.LOGGING, "Using Kotlin home directory " + paths.homePath, CompilerMessageLocation.NO_LOCATION)
         PerformanceCounter.setTimeCounterEnabled(arguments.reportPerf);
+        TypeCheckerCache.collectStatistics = arguments.reportPerf
+        if (arguments.reportPerf) {
+            // The daemon runs many compilations in one process, each of them should report only its own numbers
+            PerformanceCounter.resetAllCounters()
+            TypeCheckerCache.resetStatistics()
+        }
 
         val configuration = CompilerConfiguration()
         configuration.put(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY, messageSeverityCollector)
@@ -200,6 +207,8 @@ open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
                 reportGCTime(environment.configuration)
                 reportCompilationTime(environment.configuration)
                 PerformanceCounter.report { s -> reportPerf(environment.configuration, s) }
+                reportPerf(environment.configuration,
+                           "Type checker cache: ${TypeCheckerCache.getHits()} hits, ${TypeCheckerCache.getMisses()} misses")
             }
             return OK
         }
@@ -280,6 +289,7 @@ open class K2JVMCompiler : CLICompiler<K2JVMCompilerArguments>() {
             configuration.put(JVMConfigurationKeys.DISABLE_INLINE, arguments.noInline)
             configuration.put(JVMConfigurationKeys.DISABLE_OPTIMIZATION, arguments.noOptimize)
             configuration.put(JVMConfigurationKeys.MULTIFILE_FACADES_OPEN, arguments.multifileFacadesOpen);
+            configuration.put(JVMConfigurationKeys.PARALLEL_PARSING, arguments.parallelParsing)
             configuration.put(CLIConfigurationKeys.ALLOW_KOTLIN_PACKAGE, arguments.allowKotlinPackage);
             configuration.put(CLIConfigurationKeys.REPORT_PERF, arguments.reportPerf);
         }
@@ -33,6 +33,7 @@ import com.intellij.openapi.extensions.ExtensionsArea
 import com.intellij.openapi.fileTypes.FileTypeExtensionPoint
 import com.intellij.openapi.fileTypes.PlainTextFileType
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.util.Computable
 import com.intellij.openapi.util.Disposer
 import com.intellij.openapi.util.io.FileUtil
 import com.intellij.openapi.util.io.FileUtilRt
@@ -91,9 +92,13 @@ import org.jetbrains.kotlin.resolve.jvm.extensions.PackageFragmentProviderExtens
 import org.jetbrains.kotlin.resolve.lazy.declarations.CliDeclarationProviderFactoryService
 import org.jetbrains.kotlin.resolve.lazy.declarations.DeclarationProviderFactoryService
 import org.jetbrains.kotlin.script.KotlinScriptDefinitionProvider
+import org.jetbrains.kotlin.util.PerformanceCounter
 import org.jetbrains.kotlin.utils.PathUtil
 import java.io.File
 import java.util.*
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
 
 class KotlinCoreEnvironment private constructor(
         parentDisposable: Disposable, 
@@ -155,6 +160,11 @@ class KotlinCoreEnvironment private constructor(
         for (registrar in configuration.getList(ComponentRegistrar.PLUGIN_COMPONENT_REGISTRARS)) {
             registrar.registerProjectComponents(project, configuration)
         }
+
+        // The parser asks script definitions whether a file is a script, so they must be set up before any file is parsed
+        if (configuration.get(JVMConfigurationKeys.PARALLEL_PARSING, false)) {
+            parallelParsingPerfCounter.time { parseInParallel(sourceFiles) }
+        }
     }
 
     private val applicationEnvironment: CoreApplicationEnvironment
@@ -168,6 +178,35 @@ class KotlinCoreEnvironment private constructor(
 
     val sourceLinesOfCode: Int by lazy { countLinesOfCode(sourceFiles) }
 
+    // ASTs of source files are built lazily, on the first access during analysis. Files are independent of each other,
+    // and a new lexer and parser are created for every file, so all of them can be parsed concurrently beforehand.
+    // Loading an AST is done under a read action, as the PSI contract requires. PsiFileImpl creates the (still unparsed)
+    // file element under PsiLock.LOCK, and LazyParseableElement.ensureParsed() runs the parser outside of any lock and
+    // takes its static lock only to install the parsed children, so the parsing itself is not serialized.
+    // The time spent here is reported by -Xreport-perf as "Parallel parsing of source files".
+    private fun parseInParallel(files: List<KtFile>) {
+        val threadCount = Math.min(Runtime.getRuntime().availableProcessors(), files.size)
+        if (threadCount <= 1) return
+
+        val executor = Executors.newFixedThreadPool(threadCount)
+        try {
+            val futures = files.map { file ->
+                executor.submit(Callable { application.runReadAction(Computable { file.node.firstChildNode }) })
+            }
+            for (future in futures) {
+                try {
+                    future.get()
+                }
+                catch (e: ExecutionException) {
+                    throw e.cause ?: e
+                }
+            }
+        }
+        finally {
+            executor.shutdown()
+        }
+    }
+
     fun countLinesOfCode(sourceFiles: List<KtFile>): Int  =
             sourceFiles.sumBy {
                 val text = it.text
@@ -254,6 +293,7 @@ class KotlinCoreEnvironment private constructor(
     }
 
     companion object {
+        private val parallelParsingPerfCounter = PerformanceCounter.create("Parallel parsing of source files")
 
         private val APPLICATION_LOCK = Object()
         private var ourApplicationEnvironment: JavaCoreApplicationEnvironment? = null
@@ -280,10 +280,10 @@ object KotlinToJVMBytecodeCompiler {
 
         val analysisStart = PerformanceCounter.currentTime()
         val analyzerWithCompilerReport = AnalyzerWithCompilerReport(collector)
+        val sharedTrace = CliLightClassGenerationSupport.NoScopeRecordCliBindingTrace()
         analyzerWithCompilerReport.analyzeAndReport(
                 environment.getSourceFiles(), object : AnalyzerWithCompilerReport.Analyzer {
             override fun analyze(): AnalysisResult {
-                val sharedTrace = CliLightClassGenerationSupport.NoScopeRecordCliBindingTrace()
                 val moduleContext = TopDownAnalyzerFacadeForJVM.createContextWithSealedModule(environment.project,
                                                                                               environment.getModuleName())
 
@@ -313,6 +313,12 @@ object KotlinToJVMBytecodeCompiler {
 
         K2JVMCompiler.reportPerf(environment.configuration, message)
 
+        if (environment.configuration.get(CLIConfigurationKeys.REPORT_PERF, false)) {
+            for ((slice, size) in sharedTrace.sliceSizes.entries.sortedByDescending { it.value }) {
+                K2JVMCompiler.reportPerf(environment.configuration, "Binding trace slice $slice: $size values")
+            }
+        }
+
         val result = analyzerWithCompilerReport.analysisResult
 
         val context = CompilerPluginContext(environment.project, result.bindingContext,
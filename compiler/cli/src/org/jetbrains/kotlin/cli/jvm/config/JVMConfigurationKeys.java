@@ -37,6 +37,8 @@ public class JVMConfigurationKeys {
             CompilerConfigurationKey.create("disable optimization");
     public static final CompilerConfigurationKey<Boolean> MULTIFILE_FACADES_OPEN =
             CompilerConfigurationKey.create("compile multifile facade classes as open");
+    public static final CompilerConfigurationKey<Boolean> PARALLEL_PARSING =
+            CompilerConfigurationKey.create("parse source files in parallel");
 
     public static final CompilerConfigurationKey<IncrementalCompilationComponents> INCREMENTAL_COMPILATION_COMPONENTS =
             CompilerConfigurationKey.create("incremental cache provider");
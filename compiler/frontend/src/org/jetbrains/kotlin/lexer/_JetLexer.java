@@ -5,7 +5,9 @@ package org.jetbrains.kotlin.lexer;
 import com.intellij.lexer.FlexLexer;
 import com.intellij.psi.TokenType;
 import com.intellij.psi.tree.IElementType;
-import com.intellij.util.containers.Stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
 
 
 /**
@@ -601,37 +603,28 @@ class _JetLexer implements FlexLexer {
   private boolean zzEOFDone;
 
   /* user code: */
-    private static final class State {
-        final int lBraceCount;
-        final int state;
-
-        public State(int state, int lBraceCount) {
-            this.state = state;
-            this.lBraceCount = lBraceCount;
-        }
-
-        @Override
-        public String toString() {
-            return "yystate = " + state + (lBraceCount == 0 ? "" : "lBraceCount = " + lBraceCount);
-        }
-    }
-
-    private final Stack<State> states = new Stack<State>();
+    // Saved pairs of (yystate, lBraceCount), kept in an array so that string literals and comments don't allocate anything
+    private int[] states = new int[16];
+    private int statesSize;
     private int lBraceCount;
     
     private int commentStart;
     private int commentDepth;
 
     private void pushState(int state) {
-        states.push(new State(yystate(), lBraceCount));
+        if (statesSize == states.length) {
+            states = Arrays.copyOf(states, statesSize * 2);
+        }
+        states[statesSize++] = yystate();
+        states[statesSize++] = lBraceCount;
         lBraceCount = 0;
         yybegin(state);
     }
 
     private void popState() {
-        State state = states.pop();
-        lBraceCount = state.lBraceCount;
-        yybegin(state.state);
+        if (statesSize == 0) throw new EmptyStackException();
+        lBraceCount = states[--statesSize];
+        yybegin(states[--statesSize]);
     }
 
     private IElementType commentStateToTokenType(int state) {
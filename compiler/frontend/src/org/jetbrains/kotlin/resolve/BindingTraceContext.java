@@ -17,6 +17,7 @@
 package org.jetbrains.kotlin.resolve;
 
 import com.google.common.collect.ImmutableMap;
+import kotlin.jvm.functions.Function3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
@@ -29,13 +30,28 @@ import org.jetbrains.kotlin.types.expressions.KotlinTypeInfo;
 import org.jetbrains.kotlin.types.expressions.typeInfoFactory.TypeInfoFactoryKt;
 import org.jetbrains.kotlin.util.slicedMap.*;
 
-import java.util.Collection;
+import java.util.*;
 
 public class BindingTraceContext implements BindingTrace {
     // These flags are used for debugging of "Rewrite at slice..." exceptions
     /* package */ final static boolean TRACK_REWRITES = false;
     /* package */ final static boolean TRACK_WITH_STACK_TRACES = true;
 
+    // With -Dkotlin.binding.trace.columns=true slices recorded for most of the expressions are stored in separate tables,
+    // see SlicedMapImpl.create(Collection). By default every key has one holder for all of its slices
+    private final static boolean USE_COLUMNS_FOR_FREQUENT_SLICES = Boolean.getBoolean("kotlin.binding.trace.columns");
+
+    private final static List<ReadOnlySlice<?, ?>> FREQUENT_SLICES = Arrays.<ReadOnlySlice<?, ?>>asList(
+            BindingContext.EXPRESSION_TYPE_INFO,
+            BindingContext.EXPECTED_EXPRESSION_TYPE,
+            BindingContext.REFERENCE_TARGET,
+            BindingContext.CALL,
+            BindingContext.RESOLVED_CALL,
+            BindingContext.LEXICAL_SCOPE,
+            BindingContext.PROCESSED,
+            BindingContext.USED_AS_EXPRESSION
+    );
+
     private final MutableSlicedMap map;
     private final MutableDiagnosticsWithSuppression mutableDiagnostics;
 
@@ -79,7 +95,9 @@ public class BindingTraceContext implements BindingTrace {
 
     public BindingTraceContext() {
         //noinspection ConstantConditions
-        this(TRACK_REWRITES ? new TrackingSlicedMap(TRACK_WITH_STACK_TRACES) : SlicedMapImpl.create());
+        this(TRACK_REWRITES ? new TrackingSlicedMap(TRACK_WITH_STACK_TRACES) :
+             USE_COLUMNS_FOR_FREQUENT_SLICES ? SlicedMapImpl.create(FREQUENT_SLICES) :
+             SlicedMapImpl.create());
     }
 
 
@@ -93,6 +111,23 @@ public class BindingTraceContext implements BindingTrace {
         return new BindingTraceContext(new TrackingSlicedMap(TRACK_WITH_STACK_TRACES));
     }
 
+    /**
+     * Returns the number of values recorded in each slice, to find out which slices take the most memory
+     */
+    @NotNull
+    public Map<WritableSlice<?, ?>, Integer> getSliceSizes() {
+        final Map<WritableSlice<?, ?>, Integer> result = new LinkedHashMap<WritableSlice<?, ?>, Integer>();
+        map.forEach(new Function3<WritableSlice, Object, Object, Void>() {
+            @Override
+            public Void invoke(WritableSlice slice, Object key, Object value) {
+                Integer size = result.get(slice);
+                result.put(slice, size == null ? 1 : size + 1);
+                return null;
+            }
+        });
+        return result;
+    }
+
     @Override
     public void report(@NotNull Diagnostic diagnostic) {
         mutableDiagnostics.report(diagnostic);
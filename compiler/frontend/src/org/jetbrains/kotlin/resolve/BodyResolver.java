@@ -21,6 +21,7 @@ import com.google.common.collect.Sets;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.containers.Queue;
 import kotlin.Unit;
+import kotlin.jvm.functions.Function0;
 import kotlin.jvm.functions.Function1;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -46,6 +47,7 @@ import org.jetbrains.kotlin.types.expressions.PreliminaryDeclarationVisitor;
 import org.jetbrains.kotlin.types.expressions.ValueParameterResolver;
 import org.jetbrains.kotlin.types.expressions.typeInfoFactory.TypeInfoFactoryKt;
 import org.jetbrains.kotlin.util.Box;
+import org.jetbrains.kotlin.util.PerformanceCounter;
 import org.jetbrains.kotlin.util.ReenteringLazyValueComputationException;
 import org.jetbrains.kotlin.util.slicedMap.WritableSlice;
 
@@ -56,6 +58,13 @@ import static org.jetbrains.kotlin.resolve.BindingContext.*;
 import static org.jetbrains.kotlin.types.TypeUtils.NO_EXPECTED_TYPE;
 
 public class BodyResolver {
+    private static final PerformanceCounter controlFlowPerfCounter = PerformanceCounter.Companion.create("Control flow analysis", true);
+    private static final PerformanceCounter checkersPerfCounter = PerformanceCounter.Companion.create("Declaration checks", true);
+    // Bodies of local classes are resolved, analyzed and checked while the containing body is being resolved,
+    // so time of the two other phases is excluded to keep the phases disjoint
+    private static final PerformanceCounter bodiesPerfCounter =
+            PerformanceCounter.Companion.create("Declaration bodies resolve", controlFlowPerfCounter, checkersPerfCounter);
+
     @NotNull private final AnnotationChecker annotationChecker;
     @NotNull private final ExpressionTypingServices expressionTypingServices;
     @NotNull private final CallResolver callResolver;
@@ -227,11 +236,29 @@ public class BodyResolver {
         return call == null || !call.getStatus().isSuccess() ? null : call.getResultingDescriptor().getOriginal();
     }
 
-    public void resolveBodies(@NotNull BodiesResolveContext c) {
-        resolveBehaviorDeclarationBodies(c);
-        controlFlowAnalyzer.process(c);
-        declarationsChecker.process(c);
-        functionAnalyzerExtension.process(c);
+    public void resolveBodies(@NotNull final BodiesResolveContext c) {
+        bodiesPerfCounter.time(new Function0<Unit>() {
+            @Override
+            public Unit invoke() {
+                resolveBehaviorDeclarationBodies(c);
+                return Unit.INSTANCE;
+            }
+        });
+        controlFlowPerfCounter.time(new Function0<Unit>() {
+            @Override
+            public Unit invoke() {
+                controlFlowAnalyzer.process(c);
+                return Unit.INSTANCE;
+            }
+        });
+        checkersPerfCounter.time(new Function0<Unit>() {
+            @Override
+            public Unit invoke() {
+                declarationsChecker.process(c);
+                functionAnalyzerExtension.process(c);
+                return Unit.INSTANCE;
+            }
+        });
     }
 
     private void resolveSuperTypeEntryLists(@NotNull BodiesResolveContext c) {
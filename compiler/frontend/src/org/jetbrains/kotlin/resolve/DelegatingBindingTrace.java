@@ -29,6 +29,7 @@ import org.jetbrains.kotlin.resolve.diagnostics.MutableDiagnosticsWithSuppressio
 import org.jetbrains.kotlin.types.KotlinType;
 import org.jetbrains.kotlin.types.expressions.KotlinTypeInfo;
 import org.jetbrains.kotlin.types.expressions.typeInfoFactory.TypeInfoFactoryKt;
+import org.jetbrains.kotlin.util.PerformanceCounter;
 import org.jetbrains.kotlin.util.slicedMap.*;
 
 import java.util.Collection;
@@ -36,8 +37,11 @@ import java.util.List;
 import java.util.Map;
 
 public class DelegatingBindingTrace implements BindingTrace {
-    @SuppressWarnings("ConstantConditions")
-    private final MutableSlicedMap map = BindingTraceContext.TRACK_REWRITES ? new TrackingSlicedMap(BindingTraceContext.TRACK_WITH_STACK_TRACES) : SlicedMapImpl.create();
+    private static final PerformanceCounter tracesCreated = PerformanceCounter.Companion.create("Delegating binding traces created");
+    private static final PerformanceCounter tracesMoved = PerformanceCounter.Companion.create("Delegating binding traces moved without copying");
+    private static final PerformanceCounter tracesCopied = PerformanceCounter.Companion.create("Delegating binding traces copied");
+
+    private MutableSlicedMap map = createMap();
 
     private final BindingContext parentContext;
     private final String name;
@@ -89,6 +93,7 @@ public class DelegatingBindingTrace implements BindingTrace {
     }
 
     public DelegatingBindingTrace(BindingContext parentContext, boolean withParentDiagnostics, String debugName) {
+        tracesCreated.increment();
         this.parentContext = parentContext;
         this.name = debugName;
         this.mutableDiagnostics = withParentDiagnostics ?
@@ -167,14 +172,54 @@ public class DelegatingBindingTrace implements BindingTrace {
     }
 
     public void moveAllMyDataTo(@NotNull BindingTrace trace) {
-        addOwnDataTo(trace, null, true);
+        if (!trySwapMapWith(trace)) {
+            addOwnDataTo(trace, null, true);
+        }
         clear();
     }
 
     public void addOwnDataTo(@NotNull BindingTrace trace, @Nullable TraceEntryFilter filter, boolean commitDiagnostics) {
+        tracesCopied.increment();
         BindingContextUtils.addOwnDataTo(trace, filter, commitDiagnostics, map, mutableDiagnostics);
     }
 
+    /**
+     * If the target trace doesn't contain any data of its own, recording all the entries of this trace there one by one
+     * would produce exactly the same map, so the maps are swapped instead of copying.
+     * Diagnostics are still reported to the target trace.
+     */
+    private boolean trySwapMapWith(@NotNull BindingTrace trace) {
+        if (!isPlainDelegatingTrace(trace)) return false;
+
+        DelegatingBindingTrace target = (DelegatingBindingTrace) trace;
+        if (!target.map.isEmpty()) return false;
+
+        tracesMoved.increment();
+
+        MutableSlicedMap emptyMap = target.map;
+        target.map = map;
+        map = emptyMap;
+
+        for (Diagnostic diagnostic : mutableDiagnostics.getOwnDiagnostics()) {
+            target.report(diagnostic);
+        }
+        return true;
+    }
+
+    private static boolean isPlainDelegatingTrace(@NotNull BindingTrace trace) {
+        // These classes don't override record(), so all the data goes directly to their map
+        Class<?> traceClass = trace.getClass();
+        return traceClass == DelegatingBindingTrace.class ||
+               traceClass == TemporaryBindingTrace.class ||
+               traceClass == ChainedTemporaryBindingTrace.class;
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @NotNull
+    private static MutableSlicedMap createMap() {
+        return BindingTraceContext.TRACK_REWRITES ? new TrackingSlicedMap(BindingTraceContext.TRACK_WITH_STACK_TRACES) : SlicedMapImpl.create();
+    }
+
     public void clear() {
         map.clear();
         mutableDiagnostics.clear();
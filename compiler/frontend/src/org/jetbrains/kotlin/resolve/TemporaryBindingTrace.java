@@ -39,8 +39,7 @@ public class TemporaryBindingTrace extends DelegatingBindingTrace {
     }
 
     public void commit() {
-        addOwnDataTo(trace);
-        clear();
+        moveAllMyDataTo(trace);
     }
 
     public void commit(@NotNull TraceEntryFilter filter, boolean commitDiagnostics) {
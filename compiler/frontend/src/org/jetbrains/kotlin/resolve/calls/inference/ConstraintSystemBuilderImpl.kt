@@ -35,6 +35,7 @@ import org.jetbrains.kotlin.types.checker.TypeCheckingProcedureCallbacks
 import org.jetbrains.kotlin.types.typeUtil.builtIns
 import org.jetbrains.kotlin.types.typeUtil.defaultProjections
 import org.jetbrains.kotlin.types.typeUtil.isDefaultBound
+import org.jetbrains.kotlin.util.PerformanceCounter
 import java.util.*
 
 class ConstraintSystemBuilderImpl : ConstraintSystem.Builder {
@@ -52,6 +53,11 @@ class ConstraintSystemBuilderImpl : ConstraintSystem.Builder {
     internal val errors = ArrayList<ConstraintError>()
     internal val initialConstraints = ArrayList<Constraint>()
 
+    // Index for getMyTypeVariable(), extended lazily with variables added to allTypeParameterBounds since the last lookup.
+    // Variables are never removed and LinkedHashMap keeps them in the order of addition, so only the tail has to be indexed
+    private val typeVariableByParameter = HashMap<TypeParameterDescriptor, TypeVariable>()
+    private var indexedVariableCount = 0
+
     override val typeVariableSubstitutors = LinkedHashMap<CallHandle, TypeSubstitutor>()
 
     private fun storeSubstitutor(call: CallHandle, substitutor: TypeSubstitutor): TypeSubstitutor {
@@ -117,6 +123,7 @@ class ConstraintSystemBuilderImpl : ConstraintSystem.Builder {
             superType: KotlinType?,
             constraintContext: ConstraintContext
     ) {
+        constraintsAdded.increment()
         val constraintPosition = constraintContext.position
 
         // when processing nested constraints, `derivedFrom` information should be reset
@@ -249,6 +256,7 @@ class ConstraintSystemBuilderImpl : ConstraintSystem.Builder {
         if (typeBounds.bounds.contains(bound)) return
 
         typeBounds.addBound(bound)
+        boundsIncorporated.increment()
 
         if (!bound.isProper) {
             for (dependentTypeVariable in getNestedTypeVariables(bound.constrainingType)) {
@@ -339,8 +347,16 @@ class ConstraintSystemBuilderImpl : ConstraintSystem.Builder {
         return getMyTypeVariable(type.constructor.declarationDescriptor as? TypeParameterDescriptor ?: return null)
     }
 
-    private fun getMyTypeVariable(typeParameter: TypeParameterDescriptor): TypeVariable? =
-            allTypeParameterBounds.keys.find { it.freshTypeParameter == typeParameter }
+    private fun getMyTypeVariable(typeParameter: TypeParameterDescriptor): TypeVariable? {
+        if (indexedVariableCount != allTypeParameterBounds.size) {
+            for (typeVariable in allTypeParameterBounds.keys.drop(indexedVariableCount)) {
+                // The first variable wins, external variables of different calls may share a type parameter
+                typeVariableByParameter.getOrPut(typeVariable.freshTypeParameter) { typeVariable }
+            }
+            indexedVariableCount = allTypeParameterBounds.size
+        }
+        return typeVariableByParameter[typeParameter]
+    }
 
     private fun storeInitialConstraint(constraintKind: ConstraintKind, subType: KotlinType, superType: KotlinType, position: ConstraintPosition) {
         initialConstraints.add(Constraint(constraintKind, subType, superType, position))
@@ -393,6 +409,11 @@ class ConstraintSystemBuilderImpl : ConstraintSystem.Builder {
     override fun build(): ConstraintSystem {
         return ConstraintSystemImpl(allTypeParameterBounds, usedInBounds, errors, initialConstraints, typeVariableSubstitutors)
     }
+
+    companion object {
+        private val constraintsAdded = PerformanceCounter.create("Constraint system: constraints added")
+        private val boundsIncorporated = PerformanceCounter.create("Constraint system: bounds incorporated")
+    }
 }
 
 internal fun createTypeForFunctionPlaceholder(
@@ -147,19 +147,28 @@ internal class QualifierScopeTowerLevel(scopeTower: ScopeTower, val qualifier: Q
 // KT-3335 Creating imported super class' inner class fails in codegen
 internal open class ScopeBasedTowerLevel protected constructor(
         scopeTower: ScopeTower,
-        private val resolutionScope: ResolutionScope
+        internal val resolutionScope: ResolutionScope
 ) : AbstractScopeTowerLevel(scopeTower) {
 
     internal constructor(scopeTower: ScopeTower, lexicalScope: LexicalScope): this(scopeTower, lexicalScope as ResolutionScope)
 
+    // Candidates from a scope don't depend on the extension receiver, and the same level is asked for the same name
+    // once for each implicit receiver, so lookups are done only once per name. Most of them find nothing.
+    private val variables = HashMap<Name, Collection<CandidateWithBoundDispatchReceiver<VariableDescriptor>>>(1)
+    private val functions = HashMap<Name, Collection<CandidateWithBoundDispatchReceiver<FunctionDescriptor>>>(1)
+
     override fun getVariables(name: Name, extensionReceiver: ReceiverValue?): Collection<CandidateWithBoundDispatchReceiver<VariableDescriptor>>
-            = resolutionScope.getContributedVariablesAndObjects(name, location).map {
-                createCandidateDescriptor(it, dispatchReceiver = null)
+            = variables.getOrPut(name) {
+                resolutionScope.getContributedVariablesAndObjects(name, location).map {
+                    createCandidateDescriptor(it, dispatchReceiver = null)
+                }
             }
 
     override fun getFunctions(name: Name, extensionReceiver: ReceiverValue?): Collection<CandidateWithBoundDispatchReceiver<FunctionDescriptor>>
-            = resolutionScope.getContributedFunctionsAndConstructors(name, location).map {
-                createCandidateDescriptor(it, dispatchReceiver = null)
+            = functions.getOrPut(name) {
+                resolutionScope.getContributedFunctionsAndConstructors(name, location).map {
+                    createCandidateDescriptor(it, dispatchReceiver = null)
+                }
             }
 }
 internal class ImportingScopeBasedTowerLevel(
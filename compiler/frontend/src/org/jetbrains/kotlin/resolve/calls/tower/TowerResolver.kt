@@ -104,6 +104,8 @@ class TowerResolver {
                 map { ScopeBasedTowerLevel(this@createTowerDataList, it) }
 
         val nonLocalLevels = createNonLocalLevels()
+        // The same levels are reused for statics and for extensions for implicit receivers, so that they share lookup results
+        val nonLocalScopeLevels = nonLocalLevels.filterIsInstance<ScopeBasedTowerLevel>().associateBy { it.resolutionScope }
         val hidesMembersLevel = HidesMembersTowerLevel(this)
         val syntheticLevel = SyntheticScopeBasedTowerLevel(this, syntheticScopes)
 
@@ -123,7 +125,7 @@ class TowerResolver {
             if (scope is LexicalScope) {
                 // statics
                 if (!scope.kind.withLocalDescriptors) {
-                    + TowerData.TowerLevel(ScopeBasedTowerLevel(this, scope))
+                    + TowerData.TowerLevel(nonLocalScopeLevels[scope]!!)
                 }
 
                 val implicitReceiver = scope.implicitReceiver?.value
@@ -153,7 +155,7 @@ class TowerResolver {
             }
             else {
                 // functions with no receiver or extension for explicit receiver
-                + TowerData.TowerLevel(ImportingScopeBasedTowerLevel(this, scope as ImportingScope))
+                + TowerData.TowerLevel(nonLocalScopeLevels[scope]!!)
             }
         }
 
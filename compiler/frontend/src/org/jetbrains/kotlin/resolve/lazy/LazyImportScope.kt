@@ -128,9 +128,11 @@ class LazyImportResolver(
             name: Name,
             descriptorSelector: (ImportingScope, Name) -> D?
     ): D? {
-        fun compute(): D? {
-            val imports = indexedImports.importsForName(name)
+        val imports = indexedImports.importsForName(name)
+        // Most names aren't imported explicitly, there's no need to take the lock for them
+        if (imports.isEmpty()) return null
 
+        fun compute(): D? {
             var target: D? = null
             for (directive in imports) {
                 val resolved = descriptorSelector(getImportScope(directive), name) ?: continue
@@ -146,9 +148,12 @@ class LazyImportResolver(
             name: Name,
             descriptorsSelector: (ImportingScope, Name) -> Collection<D>
     ): Collection<D> {
+        val imports = indexedImports.importsForName(name)
+        if (imports.isEmpty()) return emptySet()
+
         return storageManager.compute {
             var descriptors: Collection<D>? = null
-            for (directive in indexedImports.importsForName(name)) {
+            for (directive in imports) {
                 val descriptorsForImport = descriptorsSelector(getImportScope(directive), name)
                 descriptors = descriptors.concat(descriptorsForImport)
             }
@@ -26,6 +26,8 @@ public interface MutableSlicedMap extends SlicedMap {
 
     void clear();
 
+    boolean isEmpty();
+
     @NotNull
     @TestOnly
     <K, V> ImmutableMap<K, V> getSliceContents(@NotNull ReadOnlySlice<K, V> slice);
@@ -25,9 +25,7 @@ import gnu.trove.THashMap;
 import kotlin.jvm.functions.Function3;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
+import java.util.*;
 
 public class SlicedMapImpl implements MutableSlicedMap {
 
@@ -35,26 +33,56 @@ public class SlicedMapImpl implements MutableSlicedMap {
         return new SlicedMapImpl();
     }
 
+    /**
+     * Creates a map which stores values of the given slices in a separate hash table per slice.
+     * This is cheaper for slices recorded for most of the keys, because such keys don't need a UserDataHolderImpl
+     */
+    public static SlicedMapImpl create(@NotNull Collection<? extends ReadOnlySlice<?, ?>> columnSlices) {
+        return new SlicedMapImpl(columnSlices);
+    }
+
     private final Map<Object, UserDataHolderImpl> map = new THashMap<Object, UserDataHolderImpl>(0);
+    private final Map<Key<?>, Map<Object, Object>> columns;
     private Multimap<WritableSlice<?, ?>, Object> collectiveSliceKeys = null;
 
+    protected SlicedMapImpl() {
+        this(Collections.<ReadOnlySlice<?, ?>>emptyList());
+    }
+
+    private SlicedMapImpl(@NotNull Collection<? extends ReadOnlySlice<?, ?>> columnSlices) {
+        if (columnSlices.isEmpty()) {
+            columns = Collections.emptyMap();
+        }
+        else {
+            columns = new HashMap<Key<?>, Map<Object, Object>>();
+            for (ReadOnlySlice<?, ?> slice : columnSlices) {
+                columns.put(slice.getKey(), new THashMap<Object, Object>(0));
+            }
+        }
+    }
+
     @Override
     public <K, V> void put(WritableSlice<K, V> slice, K key, V value) {
         if (!slice.check(key, value)) {
             return;
         }
 
-        UserDataHolderImpl holder = map.get(key);
-        if (holder == null) {
-            holder = new UserDataHolderImpl();
-            map.put(key, holder);
-        }
-
         Key<V> sliceKey = slice.getKey();
 
+        Map<Object, Object> column = columns.get(sliceKey);
+        UserDataHolderImpl holder = null;
+        if (column == null) {
+            holder = map.get(key);
+            if (holder == null) {
+                holder = new UserDataHolderImpl();
+                map.put(key, holder);
+            }
+        }
+
         RewritePolicy rewritePolicy = slice.getRewritePolicy();
         if (rewritePolicy.rewriteProcessingNeeded(key)) {
-            V oldValue = holder.getUserData(sliceKey);
+            //noinspection unchecked
+            V oldValue = column != null ? (V) column.get(key) : holder.getUserData(sliceKey);
             if (oldValue != null) {
                 //noinspection unchecked
                 if (!rewritePolicy.processRewrite(slice, key, oldValue, value)) {
@@ -71,21 +99,48 @@ public class SlicedMapImpl implements MutableSlicedMap {
             collectiveSliceKeys.put(slice, key);
         }
 
-        holder.putUserData(sliceKey, value);
+        if (column != null) {
+            column.put(key, value);
+        }
+        else {
+            holder.putUserData(sliceKey, value);
+        }
         slice.afterPut(this, key, value);
     }
 
     @Override
     public void clear() {
         map.clear();
+        for (Map<Object, Object> column : columns.values()) {
+            column.clear();
+        }
         collectiveSliceKeys = null;
     }
 
+    @Override
+    public boolean isEmpty() {
+        if (!map.isEmpty()) return false;
+
+        for (Map<Object, Object> column : columns.values()) {
+            if (!column.isEmpty()) return false;
+        }
+
+        return true;
+    }
+
     @Override
     public <K, V> V get(ReadOnlySlice<K, V> slice, K key) {
-        UserDataHolderImpl holder = map.get(key);
+        V value;
 
-        V value = holder == null ? null : holder.getUserData(slice.getKey());
+        Map<Object, Object> column = columns.get(slice.getKey());
+        if (column != null) {
+            //noinspection unchecked
+            value = (V) column.get(key);
+        }
+        else {
+            UserDataHolderImpl holder = map.get(key);
+            value = holder == null ? null : holder.getUserData(slice.getKey());
+        }
 
         return slice.computeValue(this, key, value, value == null);
     }
@@ -113,6 +168,13 @@ public class SlicedMapImpl implements MutableSlicedMap {
                 f.invoke(((AbstractWritableSlice) sliceKey).getSlice(), key, value);
             }
         }
+
+        for (Map.Entry<Key<?>, Map<Object, Object>> column : columns.entrySet()) {
+            WritableSlice slice = ((AbstractWritableSlice) column.getKey()).getSlice();
+            for (Map.Entry<Object, Object> entry : column.getValue().entrySet()) {
+                f.invoke(slice, entry.getKey(), entry.getValue());
+            }
+        }
     }
 
     @NotNull
@@ -120,6 +182,15 @@ public class SlicedMapImpl implements MutableSlicedMap {
     public <K, V> ImmutableMap<K, V> getSliceContents(@NotNull ReadOnlySlice<K, V> slice) {
         ImmutableMap.Builder<K, V> builder = ImmutableMap.builder();
 
+        Map<Object, Object> column = columns.get(slice.getKey());
+        if (column != null) {
+            for (Map.Entry<Object, Object> entry : column.entrySet()) {
+                //noinspection unchecked
+                builder.put((K) entry.getKey(), (V) entry.getValue());
+            }
+            return builder.build();
+        }
+
         for (Map.Entry<Object, UserDataHolderImpl> entry : map.entrySet()) {
 
             UserDataHolder holder = entry.getValue();
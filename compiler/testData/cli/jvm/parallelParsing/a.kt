@@ -0,0 +1,7 @@
+package a
+
+import b.B
+
+class A(val b: B) {
+    fun value() = b.value() + 1
+}
@@ -0,0 +1,5 @@
+package b
+
+class B(private val value: Int) {
+    fun value() = value
+}
@@ -0,0 +1,6 @@
+import a.A
+import b.B
+
+fun main(args: Array<String>) {
+    println(A(B(41)).value())
+}
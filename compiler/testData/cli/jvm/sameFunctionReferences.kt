@@ -0,0 +1,12 @@
+fun inc(x: Int) = x + 1
+
+fun test(): Int {
+    val sum = listOf(1, 2).map(::inc).sum()
+    val f: (Int) -> Int = ::inc
+    val g: (Int) -> Int = ::inc
+    return sum + f(g(0))
+}
+
+fun main(args: Array<String>) {
+    if (test() != 7) throw AssertionError()
+}
@@ -0,0 +1,26 @@
+fun inc(x: Int) = x + 1
+
+fun f(g: (Int) -> Int = ::inc): Int {
+    val h: (Int) -> Int = ::inc
+    return g(h(0))
+}
+
+class A(val g: (Int) -> Int = ::inc) {
+    val result: Int
+
+    init {
+        val h: (Int) -> Int = ::inc
+        result = g(h(0))
+    }
+
+    fun f(g: (Int) -> Int = ::inc): Int {
+        val h: (Int) -> Int = ::inc
+        return g(h(0))
+    }
+}
+
+fun main(args: Array<String>) {
+    if (f() != 2) throw AssertionError()
+    if (A().result != 2) throw AssertionError()
+    if (A().f() != 2) throw AssertionError()
+}
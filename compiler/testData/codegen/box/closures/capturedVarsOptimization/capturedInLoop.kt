@@ -0,0 +1,26 @@
+inline fun exec(f: () -> Unit) = f()
+
+fun box(): String {
+    var sum = 0
+    for (i in 1..10) {
+        exec { sum += i }
+    }
+    if (sum != 55) return "Fail 1: $sum"
+
+    var last = -1
+    var i = 0
+    while (i < 5) {
+        exec { last = i * 2 }
+        i++
+    }
+    if (last != 8) return "Fail 2: $last"
+
+    for (j in 1..3) {
+        var counter = 0
+        exec { counter += j }
+        exec { counter *= 2 }
+        if (counter != j * 2) return "Fail 3: $counter"
+    }
+
+    return "OK"
+}
@@ -0,0 +1,43 @@
+inline fun exec(f: () -> Unit) = f()
+
+fun fail(): Int = throw IllegalStateException()
+
+fun box(): String {
+    var x = 0
+    try {
+        exec { x = 1 }
+        exec { x += fail() }
+    }
+    catch (e: IllegalStateException) {
+        exec { x += 10 }
+    }
+    finally {
+        exec { x += 100 }
+    }
+    if (x != 111) return "Fail 1: $x"
+
+    var y = 0
+    val result = try {
+        exec { y = 1 }
+        y
+    }
+    finally {
+        exec { y = 2 }
+    }
+    if (result != 1 || y != 2) return "Fail 2: $result $y"
+
+    var z = 0
+    for (i in 0..4) {
+        try {
+            exec { z += i }
+            if (i % 2 == 0) continue
+            exec { z += 10 }
+        }
+        finally {
+            exec { z += 100 }
+        }
+    }
+    if (z != 530) return "Fail 3: $z"
+
+    return "OK"
+}
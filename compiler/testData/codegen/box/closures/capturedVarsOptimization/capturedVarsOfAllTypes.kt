@@ -0,0 +1,46 @@
+inline fun exec(f: () -> Unit) = f()
+
+class Box(val value: String)
+
+fun box(): String {
+    var z = false
+    var b: Byte = 0
+    var c = 'a'
+    var sh: Short = 0
+    var i = 0
+    var l = 0L
+    var f = 0.0f
+    var d = 0.0
+    var n: Int? = null
+    var o: Any? = null
+    var s = ""
+    exec {
+        z = true
+        b = (b + 1).toByte()
+        c++
+        sh = (sh + 2).toShort()
+        i += 3
+        l += 4L
+        f += 0.5f
+        d += 0.25
+        n = 5
+        o = Box("O")
+        s += "K"
+    }
+    exec {
+        l *= 1000000000000L
+        d *= 2
+    }
+
+    if (!z) return "Fail Boolean"
+    if (b != 1.toByte()) return "Fail Byte: $b"
+    if (c != 'b') return "Fail Char: $c"
+    if (sh != 2.toShort()) return "Fail Short: $sh"
+    if (i != 3) return "Fail Int: $i"
+    if (l != 4000000000000L) return "Fail Long: $l"
+    if (f != 0.5f) return "Fail Float: $f"
+    if (d != 0.5) return "Fail Double: $d"
+    if (n != 5) return "Fail Int?: $n"
+
+    return (o as Box).value + s
+}
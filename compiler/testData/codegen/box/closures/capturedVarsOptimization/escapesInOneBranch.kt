@@ -0,0 +1,28 @@
+inline fun exec(f: () -> Unit) = f()
+
+fun call(f: () -> Unit) = f()
+
+fun test(escape: Boolean): Int {
+    var x = 0
+    if (escape) {
+        call { x += 10 }
+    }
+    else {
+        exec { x += 1 }
+    }
+    exec { x += 100 }
+    return x
+}
+
+fun box(): String {
+    if (test(true) != 110) return "Fail 1: ${test(true)}"
+    if (test(false) != 101) return "Fail 2: ${test(false)}"
+
+    var y = 0
+    val f = { y++ }
+    exec { y += 10 }
+    f()
+    if (y != 11) return "Fail 3: $y"
+
+    return "OK"
+}
@@ -0,0 +1,32 @@
+inline fun exec(f: () -> Unit) = f()
+
+inline fun <T> compute(f: () -> T): T = f()
+
+inline fun repeatTimes(n: Int, f: (Int) -> Unit) {
+    for (i in 0..n - 1) {
+        f(i)
+    }
+}
+
+fun box(): String {
+    var x = 0
+    exec {
+        exec {
+            x += 1
+        }
+        repeatTimes(3) { i ->
+            exec { x += i }
+        }
+    }
+    if (x != 4) return "Fail 1: $x"
+
+    var s = ""
+    val r = compute {
+        compute { s += "O" }
+        s += compute { "K" }
+        s
+    }
+    if (r != "OK") return "Fail 2: $r"
+
+    return s
+}
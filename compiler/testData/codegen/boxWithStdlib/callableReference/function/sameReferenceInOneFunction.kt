@@ -0,0 +1,16 @@
+fun inc(x: Int) = x + 1
+
+fun dec(x: Int) = x - 1
+
+fun box(): String {
+    val f: (Int) -> Int = ::inc
+    val g: (Int) -> Int = ::inc
+    if (f(1) != 2 || g(2) != 3) return "Fail inc"
+    if (f.javaClass != g.javaClass) return "Fail: same references should share a class"
+
+    val h: (Int) -> Int = ::dec
+    if (h(1) != 0) return "Fail dec"
+    if (h.javaClass == f.javaClass) return "Fail: references to different functions should not share a class"
+
+    return "OK"
+}
@@ -0,0 +1,36 @@
+fun box(): String {
+    var result = ""
+    for (i in arrayOf("a", "b", "c").indices) {
+        result += i
+    }
+    for (i in listOf<Int>().indices) {
+        result += i
+    }
+    if (result != "012") return "Fail indices: $result"
+
+    result = ""
+    for (i in (1..4).reversed()) {
+        result += i
+    }
+    for (i in (4..1).reversed()) {
+        result += i
+    }
+    if (result != "4321") return "Fail reversed range: $result"
+
+    result = ""
+    for (i in (1..10 step 3).reversed()) {
+        result += i
+    }
+    if (result != "10741") return "Fail reversed progression: $result"
+
+    result = ""
+    for (c in 'c' downTo 'a') {
+        result += c
+    }
+    for (l in 2L downTo 3) {
+        result += l
+    }
+    if (result != "cba") return "Fail downTo: $result"
+
+    return "OK"
+}
@@ -0,0 +1,30 @@
+fun box(): String {
+    val strings = arrayOf("a", "b", "c")
+    var result = ""
+    for ((i, s) in strings.withIndex()) {
+        result += "$i$s;"
+    }
+    if (result != "0a;1b;2c;") return "Fail array: $result"
+
+    result = ""
+    for ((i, x) in intArrayOf(10, 20).withIndex()) {
+        result += "${i + x};"
+    }
+    if (result != "10;21;") return "Fail primitive array: $result"
+
+    result = ""
+    for ((i, x) in listOf(1, 2, 3, 4).withIndex()) {
+        if (i == 1) continue
+        if (x == 4) break
+        result += "$i:$x;"
+    }
+    if (result != "0:1;2:3;") return "Fail list: $result"
+
+    result = ""
+    for ((i) in setOf("a", "b").withIndex()) {
+        result += i
+    }
+    if (result != "01") return "Fail set: $result"
+
+    return "OK"
+}
@@ -0,0 +1,37 @@
+import kotlin.test.assertEquals
+
+fun foo(x: Int, y: Int): Int {
+    when (x) {
+        1 -> return 10
+        2, 3 -> return 20
+        y -> return 30
+        1, 4 -> return 40
+        else -> return -1
+    }
+}
+
+fun bar(x: Char, y: Char): String {
+    var result = ""
+    when (x) {
+        'a' -> result = "a"
+        'b' -> result = "b"
+        'c' -> result = "c"
+        in 'd'..y -> result = "range"
+    }
+    return result
+}
+
+fun box(): String {
+    assertEquals(10, foo(1, 1))
+    assertEquals(20, foo(3, 3))
+    assertEquals(30, foo(5, 5))
+    assertEquals(40, foo(4, 5))
+    assertEquals(-1, foo(6, 5))
+
+    assertEquals("a", bar('a', 'z'))
+    assertEquals("c", bar('c', 'z'))
+    assertEquals("range", bar('x', 'z'))
+    assertEquals("", bar('x', 'f'))
+
+    return "OK"
+}
@@ -0,0 +1,38 @@
+import kotlin.test.assertEquals
+
+fun foo(x: String?, y: String): String {
+    when (x) {
+        "abc", "cde" -> return "abc_cde"
+        "efg", "ghi" -> return "efg_ghi"
+        y -> return "y"
+        "abc", "xyz" -> return "xyz"
+        null -> return "null"
+        else -> return "other"
+    }
+}
+
+fun bar(x: String, y: String): String =
+        when (x) {
+            "abc" -> "abc"
+            "cde" -> "cde"
+            "efg" -> "efg"
+            in y -> "in y"
+            else -> "other"
+        }
+
+fun box(): String {
+    assertEquals("abc_cde", foo("abc", "abc"))
+    assertEquals("abc_cde", foo("cde", "abc"))
+    assertEquals("efg_ghi", foo("ghi", "ghi"))
+    assertEquals("y", foo("z", "z"))
+    assertEquals("xyz", foo("xyz", "z"))
+    assertEquals("null", foo(null, "z"))
+    assertEquals("other", foo("w", "z"))
+
+    assertEquals("abc", bar("abc", "abcdef"))
+    assertEquals("efg", bar("efg", "efg"))
+    assertEquals("in y", bar("bcd", "abcdef"))
+    assertEquals("other", bar("xyz", "abcdef"))
+
+    return "OK"
+}
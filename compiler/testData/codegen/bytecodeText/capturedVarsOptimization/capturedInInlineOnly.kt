@@ -0,0 +1,10 @@
+fun box(): String {
+    var x = 0
+    run { x++ }
+    run { x += 2 }
+    return if (x == 3) "OK" else "Fail: $x"
+}
+
+// 0 NEW kotlin/jvm/internal/Ref\$IntRef
+// 0 GETFIELD kotlin/jvm/internal/Ref\$IntRef.element
+// 0 PUTFIELD kotlin/jvm/internal/Ref\$IntRef.element
@@ -0,0 +1,9 @@
+fun box(): String {
+    var x = 0
+    val f = { x++ }
+    f()
+    run { x++ }
+    return if (x == 2) "OK" else "Fail: $x"
+}
+
+// 1 NEW kotlin/jvm/internal/Ref\$IntRef
@@ -0,0 +1,17 @@
+fun box(): String {
+    var i = 0
+    var l = 0L
+    var d = 0.0
+    var s = ""
+    arrayOf("O", "K").forEach {
+        i++
+        l += 2L
+        d += 0.5
+        s += it
+    }
+    return if (i == 2 && l == 4L && d == 1.0) s else "Fail"
+}
+
+// 0 NEW kotlin/jvm/internal/Ref
+// 0 GETFIELD kotlin/jvm/internal/Ref
+// 0 PUTFIELD kotlin/jvm/internal/Ref
@@ -0,0 +1,14 @@
+fun f(a: Array<String>, b: IntArray, c: Collection<Int>) {
+    for (i in a.indices) {
+    }
+    for (i in b.indices) {
+    }
+    for (i in c.indices) {
+    }
+}
+
+// 0 getIndices
+// 0 iterator
+// 0 getFirst
+// 0 getLast
+// 0 NEW
@@ -0,0 +1,13 @@
+fun f(a: Int, b: Int, p: IntProgression) {
+    for (i in (a..b).reversed()) {
+    }
+    for (i in p.reversed()) {
+    }
+}
+
+// 0 reversed
+// 0 iterator
+// 1 getFirst
+// 1 getLast
+// 1 getStep
+// 0 NEW
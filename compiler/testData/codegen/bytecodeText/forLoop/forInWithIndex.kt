@@ -0,0 +1,14 @@
+fun f(a: Array<String>, b: IntArray, c: List<String>) {
+    for ((i, s) in a.withIndex()) {
+    }
+    for ((i, x) in b.withIndex()) {
+    }
+    for ((i, s) in c.withIndex()) {
+    }
+}
+
+// 0 withIndex
+// 0 IndexedValue
+// 0 component1
+// 0 component2
+// 0 NEW
@@ -0,0 +1,10 @@
+fun inc(x: Int) = x + 1
+
+fun test(): Int {
+    val f: (Int) -> Int = ::inc
+    val g: (Int) -> Int = ::inc
+    return f(g(0))
+}
+
+// 2 GETSTATIC SameFunctionReferenceClassKt\$test\$1\.INSTANCE
+// 0 SameFunctionReferenceClassKt\$test\$2
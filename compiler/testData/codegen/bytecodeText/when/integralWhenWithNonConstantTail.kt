@@ -0,0 +1,20 @@
+fun foo(x: Int, y: Int): Int {
+    when (x) {
+        1 -> return 10
+        2, 3 -> return 20
+        y -> return 30
+        4 -> return 40
+        else -> return -1
+    }
+}
+
+fun bar(x: Int, y: Int): Int {
+    when (x) {
+        1 -> return 10
+        in 2..y -> return 20
+        else -> return -1
+    }
+}
+
+// 1 TABLESWITCH
+// 0 LOOKUPSWITCH
@@ -0,0 +1,19 @@
+fun foo(x: String, y: String): String {
+    when (x) {
+        "abc", "cde" -> return "abc_cde"
+        "efg" -> return "efg"
+        y -> return "y"
+        "ghi" -> return "ghi"
+        else -> return "other"
+    }
+}
+
+fun bar(x: String, y: String): String {
+    when (x) {
+        "abc" -> return "abc"
+        y -> return "y"
+        else -> return "other"
+    }
+}
+
+// 1 LOOKUPSWITCH
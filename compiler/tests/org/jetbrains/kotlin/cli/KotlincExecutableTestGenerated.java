@@ -187,6 +187,18 @@ public class KotlincExecutableTestGenerated extends AbstractKotlincExecutableTes
             doJvmTest(fileName);
         }
 
+        @TestMetadata("parallelParsing.args")
+        public void testParallelParsing() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/cli/jvm/parallelParsing.args");
+            doJvmTest(fileName);
+        }
+
+        @TestMetadata("parallelParsingScript.args")
+        public void testParallelParsingScript() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/cli/jvm/parallelParsingScript.args");
+            doJvmTest(fileName);
+        }
+
         @TestMetadata("pluginSimple.args")
         public void testPluginSimple() throws Exception {
             String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/cli/jvm/pluginSimple.args");
@@ -199,6 +211,18 @@ public class KotlincExecutableTestGenerated extends AbstractKotlincExecutableTes
             doJvmTest(fileName);
         }
 
+        @TestMetadata("sameFunctionReferences.args")
+        public void testSameFunctionReferences() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/cli/jvm/sameFunctionReferences.args");
+            doJvmTest(fileName);
+        }
+
+        @TestMetadata("sameFunctionReferencesInDefaultValues.args")
+        public void testSameFunctionReferencesInDefaultValues() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/cli/jvm/sameFunctionReferencesInDefaultValues.args");
+            doJvmTest(fileName);
+        }
+
         @TestMetadata("sanitized-name.clash.args")
         public void testSanitized_name_clash() throws Exception {
             String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/cli/jvm/sanitized-name.clash.args");
@@ -60,6 +60,28 @@ public class K2JvmCliTest extends CliBaseTest {
         executeCompilerCompareOutputJVM();
     }
 
+    @Test
+    public void sameFunctionReferences() throws Exception {
+        executeCompilerCompareOutputJVM();
+    }
+
+    @Test
+    public void sameFunctionReferencesInDefaultValues() throws Exception {
+        executeCompilerCompareOutputJVM();
+    }
+
+    @Test
+    public void parallelParsing() throws Exception {
+        executeCompilerCompareOutputJVM();
+
+        Assert.assertTrue(new File(tmpdir.getTmpDir(), "MainKt.class").isFile());
+    }
+
+    @Test
+    public void parallelParsingScript() throws Exception {
+        executeCompilerCompareOutputJVM();
+    }
+
     @Test
     public void conflictingOverloads() throws Exception {
         executeCompilerCompareOutputJVM();
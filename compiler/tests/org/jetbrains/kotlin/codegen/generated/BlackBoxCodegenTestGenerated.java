@@ -1975,6 +1975,45 @@ public class BlackBoxCodegenTestGenerated extends AbstractBlackBoxCodegenTest {
             }
         }
 
+        @TestMetadata("compiler/testData/codegen/box/closures/capturedVarsOptimization")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class CapturedVarsOptimization extends AbstractBlackBoxCodegenTest {
+            public void testAllFilesPresentInCapturedVarsOptimization() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadata(this.getClass(), new File("compiler/testData/codegen/box/closures/capturedVarsOptimization"), Pattern.compile("^(.+)\\.kt$"), true);
+            }
+
+            @TestMetadata("capturedInLoop.kt")
+            public void testCapturedInLoop() throws Exception {
+                String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/box/closures/capturedVarsOptimization/capturedInLoop.kt");
+                doTest(fileName);
+            }
+
+            @TestMetadata("capturedInTryCatchFinally.kt")
+            public void testCapturedInTryCatchFinally() throws Exception {
+                String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/box/closures/capturedVarsOptimization/capturedInTryCatchFinally.kt");
+                doTest(fileName);
+            }
+
+            @TestMetadata("capturedVarsOfAllTypes.kt")
+            public void testCapturedVarsOfAllTypes() throws Exception {
+                String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/box/closures/capturedVarsOptimization/capturedVarsOfAllTypes.kt");
+                doTest(fileName);
+            }
+
+            @TestMetadata("escapesInOneBranch.kt")
+            public void testEscapesInOneBranch() throws Exception {
+                String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/box/closures/capturedVarsOptimization/escapesInOneBranch.kt");
+                doTest(fileName);
+            }
+
+            @TestMetadata("nestedInlineLambdas.kt")
+            public void testNestedInlineLambdas() throws Exception {
+                String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/box/closures/capturedVarsOptimization/nestedInlineLambdas.kt");
+                doTest(fileName);
+            }
+        }
+
         @TestMetadata("compiler/testData/codegen/box/closures/closureInsideClosure")
         @TestDataPath("$PROJECT_ROOT")
         @RunWith(JUnit3RunnerWithInners.class)
@@ -612,6 +612,12 @@ public class BlackBoxWithStdlibCodegenTestGenerated extends AbstractBlackBoxCode
                 doTestWithStdlib(fileName);
             }
 
+            @TestMetadata("sameReferenceInOneFunction.kt")
+            public void testSameReferenceInOneFunction() throws Exception {
+                String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/boxWithStdlib/callableReference/function/sameReferenceInOneFunction.kt");
+                doTestWithStdlib(fileName);
+            }
+
             @TestMetadata("sortListOfStrings.kt")
             public void testSortListOfStrings() throws Exception {
                 String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/boxWithStdlib/callableReference/function/sortListOfStrings.kt");
@@ -2737,6 +2743,18 @@ public class BlackBoxWithStdlibCodegenTestGenerated extends AbstractBlackBoxCode
             doTestWithStdlib(fileName);
         }
 
+        @TestMetadata("forInIndicesAndReversed.kt")
+        public void testForInIndicesAndReversed() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/boxWithStdlib/ranges/forInIndicesAndReversed.kt");
+            doTestWithStdlib(fileName);
+        }
+
+        @TestMetadata("forInWithIndex.kt")
+        public void testForInWithIndex() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/boxWithStdlib/ranges/forInWithIndex.kt");
+            doTestWithStdlib(fileName);
+        }
+
         @TestMetadata("forIntRange.kt")
         public void testForIntRange() throws Exception {
             String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/boxWithStdlib/ranges/forIntRange.kt");
@@ -4990,6 +5008,12 @@ public class BlackBoxWithStdlibCodegenTestGenerated extends AbstractBlackBoxCode
             doTestWithStdlib(fileName);
         }
 
+        @TestMetadata("switchOptimizationNonConstantTail.kt")
+        public void testSwitchOptimizationNonConstantTail() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/boxWithStdlib/when/switchOptimizationNonConstantTail.kt");
+            doTestWithStdlib(fileName);
+        }
+
         @TestMetadata("switchOptimizationSparse.kt")
         public void testSwitchOptimizationSparse() throws Exception {
             String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/boxWithStdlib/when/switchOptimizationSparse.kt");
@@ -5116,6 +5140,12 @@ public class BlackBoxWithStdlibCodegenTestGenerated extends AbstractBlackBoxCode
             doTestWithStdlib(fileName);
         }
 
+        @TestMetadata("nonConstantTail.kt")
+        public void testNonConstantTail() throws Exception {
+            String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/boxWithStdlib/whenStringOptimization/nonConstantTail.kt");
+            doTestWithStdlib(fileName);
+        }
+
         @TestMetadata("nullability.kt")
         public void testNullability() throws Exception {
             String fileName = KotlinTestUtils.navigationMetadata("compiler/testData/codegen/boxWithStdlib/whenStringOptimization/nullability.kt");
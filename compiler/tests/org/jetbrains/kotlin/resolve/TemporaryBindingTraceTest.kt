@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2016 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.resolve
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.util.slicedMap.Slices
+import org.jetbrains.kotlin.util.slicedMap.WritableSlice
+
+class TemporaryBindingTraceTest : TestCase() {
+    private val SLICE: WritableSlice<String, Int> = Slices.sliceBuilder<String, Int>().setDebugName("SLICE").build()
+
+    fun testCommitToEmptyTrace() {
+        val base = BindingTraceContext()
+        val middle = TemporaryBindingTrace.create(base, "middle")
+        val derived = TemporaryBindingTrace.create(middle, "derived")
+
+        derived.record(SLICE, "a", 1)
+        derived.commit()
+
+        TestCase.assertNull(derived.get(SLICE, "a"))
+        TestCase.assertEquals(1, middle.get(SLICE, "a"))
+        TestCase.assertNull(base.get(SLICE, "a"))
+
+        derived.record(SLICE, "b", 2)
+        TestCase.assertNull(middle.get(SLICE, "b"))
+
+        middle.commit()
+
+        TestCase.assertEquals(1, base.get(SLICE, "a"))
+        TestCase.assertNull(middle.get(SLICE, "a"))
+        TestCase.assertEquals(1, derived.get(SLICE, "a"))
+        TestCase.assertEquals(2, derived.get(SLICE, "b"))
+    }
+
+    fun testCommitToNonEmptyTrace() {
+        val base = BindingTraceContext()
+        val middle = TemporaryBindingTrace.create(base, "middle")
+        val derived = TemporaryBindingTrace.create(middle, "derived")
+
+        middle.record(SLICE, "a", 1)
+        derived.record(SLICE, "b", 2)
+        derived.commit()
+
+        TestCase.assertEquals(1, middle.get(SLICE, "a"))
+        TestCase.assertEquals(2, middle.get(SLICE, "b"))
+        TestCase.assertNull(derived.get(SLICE, "c"))
+
+        derived.record(SLICE, "c", 3)
+        TestCase.assertNull(middle.get(SLICE, "c"))
+    }
+}
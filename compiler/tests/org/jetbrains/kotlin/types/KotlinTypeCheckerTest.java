@@ -44,6 +44,7 @@ import org.jetbrains.kotlin.test.KotlinTestUtils;
 import org.jetbrains.kotlin.tests.di.ContainerForTests;
 import org.jetbrains.kotlin.tests.di.InjectionKt;
 import org.jetbrains.kotlin.types.checker.KotlinTypeChecker;
+import org.jetbrains.kotlin.types.checker.TypeCheckerCache;
 import org.jetbrains.kotlin.types.expressions.ExpressionTypingServices;
 
 import java.io.File;
@@ -257,6 +258,59 @@ public class KotlinTypeCheckerTest extends KotlinLiteFixture {
         assertNotSubtype("Unit", "Int");
     }
 
+    public void testCachedSubtyping() throws Exception {
+        String[] typeStrings = {"Int", "Int?", "Any", "Nothing", "List<Int>", "List<out Any>", "Collection<*>", "Map<String, Int>"};
+        List<KotlinType> types = new ArrayList<KotlinType>();
+        for (String typeString : typeStrings) {
+            types.add(makeType(typeString));
+        }
+
+        for (int i = 0; i < 2; i++) {
+            for (KotlinType a : types) {
+                for (KotlinType b : types) {
+                    assertEquals(a + " <: " + b, KotlinTypeChecker.FLEXIBLE_UNEQUAL_TO_INFLEXIBLE.isSubtypeOf(a, b),
+                                 KotlinTypeChecker.DEFAULT.isSubtypeOf(a, b));
+                    assertEquals(a + " == " + b, KotlinTypeChecker.FLEXIBLE_UNEQUAL_TO_INFLEXIBLE.equalTypes(a, b),
+                                 KotlinTypeChecker.DEFAULT.equalTypes(a, b));
+                }
+            }
+        }
+    }
+
+    public void testTypeCheckerCache() throws Exception {
+        TypeCheckerCache cache = TypeCheckerCache.getInstance();
+        KotlinType listOfInt = makeType("List<Int>");
+        KotlinType collectionOfAny = makeType("Collection<out Any>");
+
+        TypeCheckerCache.collectStatistics = true;
+        try {
+            assertTrue(KotlinTypeChecker.DEFAULT.isSubtypeOf(listOfInt, collectionOfAny));
+            assertEquals(Boolean.TRUE, cache.get(listOfInt, collectionOfAny, false));
+
+            long hits = TypeCheckerCache.getHits();
+            assertTrue(KotlinTypeChecker.DEFAULT.isSubtypeOf(listOfInt, collectionOfAny));
+            assertEquals(hits + 1, TypeCheckerCache.getHits());
+
+            assertFalse(KotlinTypeChecker.DEFAULT.equalTypes(listOfInt, collectionOfAny));
+            assertEquals(Boolean.FALSE, cache.get(listOfInt, collectionOfAny, true));
+        }
+        finally {
+            TypeCheckerCache.collectStatistics = false;
+        }
+
+        KotlinType anyType = builtIns.getNullableAnyType();
+        KotlinType errorType = ErrorUtils.createErrorType("error");
+        KotlinType flexibleType = DelegatingFlexibleType.create(
+                builtIns.getIntType(), TypeUtils.makeNullable(builtIns.getIntType()), FlexibleTypeCapabilities.NONE.INSTANCE
+        );
+        for (KotlinType type : Arrays.asList(errorType, flexibleType)) {
+            KotlinTypeChecker.DEFAULT.isSubtypeOf(type, anyType);
+            KotlinTypeChecker.DEFAULT.equalTypes(anyType, type);
+            assertNull(type.toString(), cache.get(type, anyType, false));
+            assertNull(type.toString(), cache.get(anyType, type, true));
+        }
+    }
+
     public void testProjections() throws Exception {
         assertSubtype("Base_T<Int>", "Base_T<Int>");
         assertNotSubtype("Base_T<Int>", "Base_T<Any>");
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2010-2016 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.util.slicedMap;
+
+import junit.framework.TestCase;
+
+import java.util.Collections;
+
+public class SlicedMapImplTest extends TestCase {
+    private final WritableSlice<String, Integer> COLUMN = Slices.<String, Integer>sliceBuilder().setDebugName("COLUMN").build();
+    private final WritableSlice<String, Integer> GENERIC = Slices.<String, Integer>sliceBuilder().setDebugName("GENERIC").build();
+
+    @SuppressWarnings("unchecked")
+    private final WritableSlice<String, Object> FURTHER = Slices.<String, Object>sliceBuilder()
+            .setFurtherLookupSlices(new ReadOnlySlice[] {COLUMN})
+            .setDebugName("FURTHER").build();
+
+    private final SlicedMapImpl map = SlicedMapImpl.create(Collections.singletonList(COLUMN));
+
+    public void testColumnAndGenericSlices() {
+        map.put(COLUMN, "a", 1);
+        map.put(GENERIC, "a", 2);
+        map.put(COLUMN, "b", 3);
+
+        assertEquals(1, (int) map.get(COLUMN, "a"));
+        assertEquals(2, (int) map.get(GENERIC, "a"));
+        assertEquals(3, (int) map.get(COLUMN, "b"));
+        assertNull(map.get(GENERIC, "b"));
+        assertNull(map.get(COLUMN, "c"));
+    }
+
+    public void testFurtherLookupInColumn() {
+        map.put(COLUMN, "a", 1);
+
+        assertEquals(1, map.get(FURTHER, "a"));
+    }
+
+    public void testSliceContents() {
+        map.put(COLUMN, "a", 1);
+        map.put(COLUMN, "b", 2);
+        map.put(GENERIC, "a", 3);
+
+        assertEquals(2, map.getSliceContents(COLUMN).size());
+        assertEquals(1, map.getSliceContents(GENERIC).size());
+    }
+
+    public void testClear() {
+        map.put(COLUMN, "a", 1);
+        map.put(GENERIC, "a", 2);
+        map.clear();
+
+        assertNull(map.get(COLUMN, "a"));
+        assertNull(map.get(GENERIC, "a"));
+        assertTrue(map.getSliceContents(COLUMN).isEmpty());
+    }
+}
@@ -26,7 +26,7 @@ public class KotlinTypeChecker {
         boolean equals(@NotNull TypeConstructor a, @NotNull TypeConstructor b);
     }
 
-    public static final KotlinTypeChecker DEFAULT = new KotlinTypeChecker(new TypeCheckingProcedure(new TypeCheckerProcedureCallbacksImpl()));
+    public static final KotlinTypeChecker DEFAULT = new KotlinTypeChecker(new TypeCheckingProcedure(new TypeCheckerProcedureCallbacksImpl()), true);
 
     public static final KotlinTypeChecker ERROR_TYPES_ARE_EQUAL_TO_ANYTHING = new KotlinTypeChecker(new TypeCheckingProcedure(new TypeCheckerProcedureCallbacksImpl() {
         @Override
@@ -53,16 +53,44 @@ public class KotlinTypeChecker {
     }
 
     private final TypeCheckingProcedure procedure;
+    private final boolean useCache;
 
     private KotlinTypeChecker(@NotNull TypeCheckingProcedure procedure) {
+        this(procedure, false);
+    }
+
+    private KotlinTypeChecker(@NotNull TypeCheckingProcedure procedure, boolean useCache) {
         this.procedure = procedure;
+        this.useCache = useCache;
     }
 
     public boolean isSubtypeOf(@NotNull KotlinType subtype, @NotNull KotlinType supertype) {
+        if (useCache) {
+            return checkWithCache(subtype, supertype, false);
+        }
         return procedure.isSubtypeOf(subtype, supertype);
     }
 
     public boolean equalTypes(@NotNull KotlinType a, @NotNull KotlinType b) {
+        if (useCache) {
+            return checkWithCache(a, b, true);
+        }
         return procedure.equalTypes(a, b);
     }
+
+    private boolean checkWithCache(@NotNull KotlinType a, @NotNull KotlinType b, boolean isEquality) {
+        TypeCheckerCache cache = TypeCheckerCache.getInstance();
+
+        Boolean cached = cache.get(a, b, isEquality);
+        if (cached != null) return cached;
+
+        boolean result = isEquality ? procedure.equalTypes(a, b) : procedure.isSubtypeOf(a, b);
+
+        // Results for error, flexible and captured types may depend on the context of the check
+        if (TypeCheckerCache.isCacheable(a) && TypeCheckerCache.isCacheable(b)) {
+            cache.put(a, b, isEquality, result);
+        }
+
+        return result;
+    }
 }
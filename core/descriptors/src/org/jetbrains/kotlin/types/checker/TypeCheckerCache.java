@@ -0,0 +1,120 @@
+/*
+ * Copyright 2010-2016 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.types.checker;
+
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.resolve.calls.inference.CapturedTypeConstructor;
+import org.jetbrains.kotlin.types.FlexibleTypesKt;
+import org.jetbrains.kotlin.types.KotlinType;
+import org.jetbrains.kotlin.types.TypeUtils;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A small direct-mapped cache of type checking results.
+ * Types are compared by identity and referenced weakly, so that the cache doesn't retain descriptors of disposed modules.
+ * The cache is confined to a thread, see {@link #getInstance()}.
+ */
+public class TypeCheckerCache {
+    private static final int SIZE = 1024;
+
+    private static final ThreadLocal<TypeCheckerCache> INSTANCE = new ThreadLocal<TypeCheckerCache>() {
+        @Override
+        protected TypeCheckerCache initialValue() {
+            return new TypeCheckerCache();
+        }
+    };
+
+    private static final Function1<KotlinType, Boolean> IS_NOT_CACHEABLE = new Function1<KotlinType, Boolean>() {
+        @Override
+        public Boolean invoke(KotlinType type) {
+            return type.isError() || FlexibleTypesKt.isFlexible(type) || type.getConstructor() instanceof CapturedTypeConstructor;
+        }
+    };
+
+    public static volatile boolean collectStatistics = false;
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    @NotNull
+    public static TypeCheckerCache getInstance() {
+        return INSTANCE.get();
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    // Statistics are collected for the whole process, so they're reset before each compilation
+    public static void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    public static boolean isCacheable(@NotNull KotlinType type) {
+        return !TypeUtils.contains(type, IS_NOT_CACHEABLE);
+    }
+
+    private final Entry[] entries = new Entry[SIZE];
+
+    // Returns null if there's no result for these types in the cache
+    public Boolean get(@NotNull KotlinType a, @NotNull KotlinType b, boolean isEquality) {
+        Entry entry = entries[index(a, b, isEquality)];
+        Boolean result = entry != null && entry.matches(a, b, isEquality) ? entry.result : null;
+
+        if (collectStatistics) {
+            if (result != null) hits.incrementAndGet();
+            else misses.incrementAndGet();
+        }
+
+        return result;
+    }
+
+    public void put(@NotNull KotlinType a, @NotNull KotlinType b, boolean isEquality, boolean result) {
+        entries[index(a, b, isEquality)] = new Entry(a, b, isEquality, result);
+    }
+
+    private static int index(@NotNull KotlinType a, @NotNull KotlinType b, boolean isEquality) {
+        int hash = 31 * System.identityHashCode(a) + System.identityHashCode(b);
+        if (isEquality) hash = ~hash;
+        return (hash ^ (hash >>> 16)) & (SIZE - 1);
+    }
+
+    private static class Entry {
+        private final WeakReference<KotlinType> a;
+        private final WeakReference<KotlinType> b;
+        private final boolean isEquality;
+        private final boolean result;
+
+        private Entry(@NotNull KotlinType a, @NotNull KotlinType b, boolean isEquality, boolean result) {
+            this.a = new WeakReference<KotlinType>(a);
+            this.b = new WeakReference<KotlinType>(b);
+            this.isEquality = isEquality;
+            this.result = result;
+        }
+
+        private boolean matches(@NotNull KotlinType a, @NotNull KotlinType b, boolean isEquality) {
+            return this.isEquality == isEquality && this.a.get() == a && this.b.get() == b;
+        }
+    }
+}
@@ -33,6 +33,12 @@ var JsInvocation.psiElement: PsiElement? by MetadataProperty(default = null)
 
 var JsFunction.isLocal: Boolean by MetadataProperty(default = false)
 
+/**
+ * Inline function, that can't be called from other modules,
+ * so its definition isn't needed once all calls in the module are inlined.
+ */
+var JsFunction.isNonPublicInline: Boolean by MetadataProperty(default = false)
+
 var JsParameter.hasDefaultValue: Boolean by MetadataProperty(default = false)
 
 var JsInvocation.typeCheck: TypeCheck? by MetadataProperty(default = null)
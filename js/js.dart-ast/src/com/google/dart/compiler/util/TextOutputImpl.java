@@ -37,6 +37,17 @@ public class TextOutputImpl implements TextOutput {
         return out.toString();
     }
 
+    /**
+     * Returns the text surrounded by the given prefix and postfix. The result is built in a buffer of the exact size,
+     * so the text is copied into it without regrowing and then once more into the resulting string.
+     */
+    public String toString(String prefix, String postfix) {
+        if (prefix.isEmpty() && postfix.isEmpty()) {
+            return out.toString();
+        }
+        return new StringBuilder(prefix.length() + out.length() + postfix.length()).append(prefix).append(out).append(postfix).toString();
+    }
+
     @Override
     public int getPosition() {
         return position;
@@ -18,70 +18,40 @@ package org.jetbrains.kotlin.js.inline
 
 import com.google.dart.compiler.backend.js.ast.*
 import com.google.dart.compiler.backend.js.ast.metadata.inlineStrategy
-import com.google.gwt.dev.js.ThrowExceptionOnErrorReporter
 import com.intellij.util.containers.SLRUCache
 import org.jetbrains.kotlin.builtins.KotlinBuiltIns
 import org.jetbrains.kotlin.descriptors.CallableDescriptor
 import org.jetbrains.kotlin.js.config.LibrarySourcesConfig
+import org.jetbrains.kotlin.js.inline.JsLibraryCache.JsLibraryModule
 import org.jetbrains.kotlin.js.inline.util.IdentitySet
 import org.jetbrains.kotlin.js.inline.util.isCallInvocation
-import org.jetbrains.kotlin.js.parser.parseFunction
 import org.jetbrains.kotlin.js.translate.context.Namer
 import org.jetbrains.kotlin.js.translate.context.TranslationContext
 import org.jetbrains.kotlin.js.translate.reference.CallExpressionTranslator
 import org.jetbrains.kotlin.js.translate.utils.JsDescriptorUtils.getExternalModuleName
 import org.jetbrains.kotlin.resolve.descriptorUtil.isExtension
 import org.jetbrains.kotlin.resolve.inline.InlineStrategy
-import org.jetbrains.kotlin.utils.JsLibraryUtils
 import org.jetbrains.kotlin.utils.sure
 import java.io.File
 
-// TODO: add hash checksum to defineModule?
-/**
- * Matches string like Kotlin.defineModule("stdlib", _)
- * Kotlin, _ can be renamed by minifier, quotes type can be changed too (" to ')
- */
-private val DEFINE_MODULE_PATTERN = "(\\w+)\\.defineModule\\(\\s*(['\"])(\\w+)\\2\\s*,\\s*(\\w+)\\s*\\)".toRegex()
-
 class FunctionReader(private val context: TranslationContext) {
     /**
-     * Maps module name to .js file content, that contains this module definition.
-     * One file can contain more than one module definition.
-     */
-    private val moduleJsDefinition = hashMapOf<String, String>()
-
-    /**
-     * Maps module name to variable, that is used to call functions inside module.
-     * The default variable is _, but it can be renamed by minifier.
-     */
-    private val moduleRootVariable = hashMapOf<String, String>()
-
-    /**
-     * Maps moduleName to kotlin object variable.
-     * The default variable is Kotlin, but it can be renamed by minifier.
+     * Maps module name to its definition in one of the libraries.
      */
-    private val moduleKotlinVariable = hashMapOf<String, String>()
+    private val modules = hashMapOf<String, JsLibraryModule>()
 
     init {
         val config = context.config as LibrarySourcesConfig
-        val libs = config.libraries.map { File(it) }
-
-        JsLibraryUtils.traverseJsLibraries(libs) { fileContent, path ->
-            val matcher = DEFINE_MODULE_PATTERN.toPattern().matcher(fileContent)
-
-            while (matcher.find()) {
-                val moduleName = matcher.group(3)
-                val moduleVariable = matcher.group(4)
-                val kotlinVariable = matcher.group(1)
-                assert(moduleName !in moduleJsDefinition) { "Module is defined in more, than one file" }
-                moduleJsDefinition[moduleName] = fileContent
-                moduleRootVariable[moduleName] = moduleVariable
-                moduleKotlinVariable[moduleName] = kotlinVariable
+
+        for (lib in config.libraries) {
+            for (module in JsLibraryCache.getModules(File(lib))) {
+                assert(module.name !in modules) { "Module is defined in more, than one file" }
+                modules[module.name] = module
             }
         }
     }
 
-    private val functionCache = object : SLRUCache<CallableDescriptor, JsFunction>(50, 50) {
+    private val functionCache = object : SLRUCache<CallableDescriptor, JsFunction>(200, 200) {
         override fun createValue(descriptor: CallableDescriptor): JsFunction =
                 readFunction(descriptor).sure { "Could not read function: $descriptor" }
     }
@@ -89,7 +59,7 @@ class FunctionReader(private val context: TranslationContext) {
     operator fun contains(descriptor: CallableDescriptor): Boolean {
         val moduleName = getExternalModuleName(descriptor)
         val currentModuleName = context.config.moduleId
-        return currentModuleName != moduleName && moduleName != null && moduleName in moduleJsDefinition
+        return currentModuleName != moduleName && moduleName != null && moduleName in modules
     }
 
     operator fun get(descriptor: CallableDescriptor): JsFunction = functionCache.get(descriptor)
@@ -98,38 +68,20 @@ class FunctionReader(private val context: TranslationContext) {
         if (descriptor !in this) return null
 
         val moduleName = getExternalModuleName(descriptor)
-        val file = moduleJsDefinition[moduleName].sure { "Module $moduleName file have not been read" }
-        val function = readFunctionFromSource(descriptor, file)
-        function?.markInlineArguments(descriptor)
-        return function
-    }
-
-    private fun readFunctionFromSource(descriptor: CallableDescriptor, source: String): JsFunction? {
-        val tag = Namer.getFunctionTag(descriptor)
-        val index = source.indexOf(tag)
-        if (index < 0) return null
+        val module = modules[moduleName].sure { "Module $moduleName file have not been read" }
+        val function = module.readFunction(Namer.getFunctionTag(descriptor)) ?: return null
 
-        // + 1 for closing quote
-        var offset = index + tag.length + 1
-        while (offset < source.length && source[offset].isWhitespaceOrComma) {
-            offset++
-        }
-
-        val function = parseFunction(source, offset, ThrowExceptionOnErrorReporter, JsRootScope(JsProgram("<inline>")))
-        val moduleName = getExternalModuleName(descriptor)!!
-        val moduleNameLiteral = context.program().getStringLiteral(moduleName)
+        val moduleNameLiteral = context.program().getStringLiteral(module.name)
         val moduleReference =  context.namer().getModuleReference(moduleNameLiteral)
 
-        val replacements = hashMapOf(moduleRootVariable[moduleName]!! to moduleReference,
-                                     moduleKotlinVariable[moduleName]!! to Namer.KOTLIN_OBJECT_REF)
+        val replacements = hashMapOf(module.rootVariable to moduleReference,
+                                     module.kotlinVariable to Namer.KOTLIN_OBJECT_REF)
         replaceExternalNames(function, replacements)
+        function.markInlineArguments(descriptor)
         return function
     }
 }
 
-private val Char.isWhitespaceOrComma: Boolean
-    get() = this == ',' || this.isWhitespace()
-
 private fun JsFunction.markInlineArguments(descriptor: CallableDescriptor) {
     val params = descriptor.valueParameters
     val paramsJs = parameters
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2010-2016 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.inline
+
+import com.google.dart.compiler.backend.js.ast.JsFunction
+import com.google.dart.compiler.backend.js.ast.JsProgram
+import com.google.dart.compiler.backend.js.ast.JsRootScope
+import com.google.gwt.dev.js.ThrowExceptionOnErrorReporter
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.util.containers.ContainerUtil
+import org.jetbrains.kotlin.js.parser.parseFunction
+import org.jetbrains.kotlin.util.PerformanceCounter
+import org.jetbrains.kotlin.utils.JsLibraryUtils
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
+import java.util.zip.ZipFile
+
+// TODO: add hash checksum to defineModule?
+/**
+ * Matches string like Kotlin.defineModule("stdlib", _)
+ * Kotlin, _ can be renamed by minifier, quotes type can be changed too (" to ')
+ */
+private val DEFINE_MODULE_PATTERN = "(\\w+)\\.defineModule\\(\\s*(['\"])(\\w+)\\2\\s*,\\s*(\\w+)\\s*\\)".toRegex()
+
+/**
+ * Module definitions found in JS libraries, shared by all compilations in the process (e.g. in the daemon).
+ * A library archive is read and scanned again only when the archive changes, and an inline function is parsed once per library version.
+ * An archive counts as changed when its modification time, its size, or the names or CRCs of its entries change. The entries are
+ * taken from the central directory, which is cheap to read, so a jar rebuilt within the file system's time granularity is not missed.
+ * Directories and plain .js files are read on every request, since there's no cheap way to tell whether they've changed.
+ */
+object JsLibraryCache {
+    private val libraries = ContainerUtil.createConcurrentSoftValueMap<String, CachedLibrary>()
+
+    private val libraryReads = PerformanceCounter.create("JS libraries read")
+    private val parsedFunctions = PerformanceCounter.create("JS library inline functions parsed")
+
+    fun getModules(lib: File): List<JsLibraryModule> {
+        if (lib.isDirectory || !FileUtil.isJarOrZip(lib)) return readModules(lib)
+
+        val path = lib.absolutePath
+        val stamp = LibraryStamp(lib.lastModified(), lib.length(), entriesHash(lib))
+        val cached = libraries[path]
+        if (cached != null && cached.stamp == stamp) return cached.modules
+
+        val modules = readModules(lib)
+        libraries[path] = CachedLibrary(stamp, modules)
+        return modules
+    }
+
+    private fun readModules(lib: File): List<JsLibraryModule> {
+        libraryReads.increment()
+        val modules = arrayListOf<JsLibraryModule>()
+
+        JsLibraryUtils.traverseJsLibrary(lib) { fileContent, path ->
+            val matcher = DEFINE_MODULE_PATTERN.toPattern().matcher(fileContent)
+
+            while (matcher.find()) {
+                val moduleName = matcher.group(3)
+                val moduleVariable = matcher.group(4)
+                val kotlinVariable = matcher.group(1)
+                modules.add(JsLibraryModule(moduleName, moduleVariable, kotlinVariable, fileContent))
+            }
+        }
+
+        return modules
+    }
+
+    private fun entriesHash(lib: File): Long {
+        var hash = 0L
+        ZipFile(lib).use { zip ->
+            for (entry in zip.entries()) {
+                hash = 31 * hash + entry.name.hashCode()
+                hash = 31 * hash + entry.crc
+            }
+        }
+        return hash
+    }
+
+    private data class LibraryStamp(val lastModified: Long, val length: Long, val entriesHash: Long)
+
+    private class CachedLibrary(val stamp: LibraryStamp, val modules: List<JsLibraryModule>)
+
+    /**
+     * A module defined in a library .js file. One file can contain more than one module definition.
+     *
+     * @param rootVariable variable, that is used to call functions inside module.
+     * The default variable is _, but it can be renamed by minifier.
+     * @param kotlinVariable kotlin object variable.
+     * The default variable is Kotlin, but it can be renamed by minifier.
+     */
+    class JsLibraryModule(val name: String, val rootVariable: String, val kotlinVariable: String, private val source: String) {
+        // Offsets of function tags of this module, built by a single pass over the file instead of searching the file for every function
+        private val functionOffsets by lazy { indexFunctionTags(name, source) }
+
+        // Functions as parsed from the library, callers get copies of them
+        private val functions = ConcurrentHashMap<String, JsFunction>()
+
+        /**
+         * Returns a copy of the function with the given tag, or null if there's no such function in the module.
+         * External names in the function are not replaced.
+         */
+        fun readFunction(tag: String): JsFunction? {
+            val function = functions[tag] ?: parse(tag)?.let { functions.putIfAbsent(tag, it) ?: it } ?: return null
+            return function.deepCopy()
+        }
+
+        private fun parse(tag: String): JsFunction? {
+            var offset = functionOffsets[tag] ?: run {
+                val index = source.indexOf(tag)
+                if (index < 0) return null
+                // + 1 for closing quote
+                index + tag.length + 1
+            }
+            while (offset < source.length && source[offset].isWhitespaceOrComma) {
+                offset++
+            }
+
+            parsedFunctions.increment()
+            return parseFunction(source, offset, ThrowExceptionOnErrorReporter, JsRootScope(JsProgram("<inline>")))
+        }
+    }
+}
+
+/**
+ * Finds string literals that look like function tags of the given module, i.e. "moduleName.qualifier.name".
+ * Maps each tag to the offset just past its closing quote; the first occurrence wins, as with String.indexOf.
+ */
+private fun indexFunctionTags(moduleName: String, source: String): Map<String, Int> {
+    val pattern = "(['\"])(${Regex.escape(moduleName)}\\.[^'\"\\s]+)\\1".toRegex()
+    val offsets = hashMapOf<String, Int>()
+
+    for (match in pattern.findAll(source)) {
+        val tag = match.groupValues[2]
+        if (tag !in offsets) {
+            offsets[tag] = match.range.endInclusive + 1
+        }
+    }
+
+    return offsets
+}
+
+private val Char.isWhitespaceOrComma: Boolean
+    get() = this == ',' || this.isWhitespace()
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2010-2016 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.inline.clean
+
+import com.google.dart.compiler.backend.js.ast.*
+import com.google.dart.compiler.backend.js.ast.JsLiteral.JsBooleanLiteral
+import com.google.dart.compiler.backend.js.ast.JsNumberLiteral.JsDoubleLiteral
+import com.google.dart.compiler.backend.js.ast.JsNumberLiteral.JsIntLiteral
+
+/**
+ * Evaluates operations on literals, that appear when inline functions are called with constant arguments:
+ *  inline fun area(w: Int, h: Int) = w * h
+ *  area(3, 4)
+ * becomes 3 * 4 after inlining and 12 after folding.
+ *
+ * Operations are evaluated with the semantics of JS, so the result is the same, as computed at run time.
+ * Operations, whose result can't be written as a literal (NaN, infinities, -0), are left as is.
+ */
+fun foldConstants(root: JsNode, program: JsProgram) {
+    ConstantFolder(program).accept(root)
+}
+
+// Integers up to 2^53 are exact in doubles, so truncation to long gives the same low 32 bits as ToInt32 in JS
+private val MAX_EXACT_INTEGER = 9007199254740992.0
+
+private class ConstantFolder(private val program: JsProgram) : JsVisitorWithContextImpl() {
+    override fun endVisit(x: JsBinaryOperation, ctx: JsContext<JsNode>) {
+        foldBinary(x.operator, x.arg1, x.arg2)?.let { ctx.replaceMe(it) }
+    }
+
+    override fun endVisit(x: JsPrefixOperation, ctx: JsContext<JsNode>) {
+        foldPrefix(x.operator, x.arg)?.let { ctx.replaceMe(it) }
+    }
+
+    override fun endVisit(x: JsConditional, ctx: JsContext<JsNode>) {
+        val test = x.testExpression as? JsBooleanLiteral ?: return
+        ctx.replaceMe(if (test.value) x.thenExpression else x.elseExpression)
+    }
+
+    private fun foldBinary(operator: JsBinaryOperator, arg1: JsExpression, arg2: JsExpression): JsExpression? {
+        if (arg1 is JsBooleanLiteral) {
+            if (operator == JsBinaryOperator.AND) return if (arg1.value) arg2 else arg1
+            if (operator == JsBinaryOperator.OR) return if (arg1.value) arg1 else arg2
+        }
+
+        if (operator == JsBinaryOperator.ADD && (arg1 is JsStringLiteral || arg2 is JsStringLiteral)) {
+            val left = stringValue(arg1) ?: return null
+            val right = stringValue(arg2) ?: return null
+            return program.getStringLiteral(left + right)
+        }
+
+        val left = numberValue(arg1) ?: return null
+        val right = numberValue(arg2) ?: return null
+
+        return when (operator) {
+            JsBinaryOperator.ADD -> numberLiteral(left + right)
+            JsBinaryOperator.SUB -> numberLiteral(left - right)
+            JsBinaryOperator.MUL -> numberLiteral(left * right)
+            JsBinaryOperator.DIV -> numberLiteral(left / right)
+            JsBinaryOperator.MOD -> numberLiteral(left % right)
+
+            JsBinaryOperator.BIT_AND -> foldInt32(left, right) { a, b -> a and b }
+            JsBinaryOperator.BIT_OR -> foldInt32(left, right) { a, b -> a or b }
+            JsBinaryOperator.BIT_XOR -> foldInt32(left, right) { a, b -> a xor b }
+            JsBinaryOperator.SHL -> foldInt32(left, right) { a, b -> a shl (b and 31) }
+            JsBinaryOperator.SHR -> foldInt32(left, right) { a, b -> a shr (b and 31) }
+            JsBinaryOperator.SHRU -> {
+                val a = toInt32(left) ?: return null
+                val b = toInt32(right) ?: return null
+                numberLiteral(((a ushr (b and 31)).toLong() and 0xFFFFFFFFL).toDouble())
+            }
+
+            JsBinaryOperator.LT -> JsLiteral.getBoolean(left < right)
+            JsBinaryOperator.LTE -> JsLiteral.getBoolean(left <= right)
+            JsBinaryOperator.GT -> JsLiteral.getBoolean(left > right)
+            JsBinaryOperator.GTE -> JsLiteral.getBoolean(left >= right)
+            JsBinaryOperator.EQ, JsBinaryOperator.REF_EQ -> JsLiteral.getBoolean(left == right)
+            JsBinaryOperator.NEQ, JsBinaryOperator.REF_NEQ -> JsLiteral.getBoolean(left != right)
+
+            else -> null
+        }
+    }
+
+    private fun foldPrefix(operator: JsUnaryOperator, arg: JsExpression): JsExpression? {
+        if (operator == JsUnaryOperator.NOT && arg is JsBooleanLiteral) return JsLiteral.getBoolean(!arg.value)
+
+        val value = numberValue(arg) ?: return null
+        return when (operator) {
+            JsUnaryOperator.NEG -> numberLiteral(-value)
+            JsUnaryOperator.BIT_NOT -> toInt32(value)?.let { program.getNumberLiteral(it.inv()) }
+            else -> null
+        }
+    }
+
+    private inline fun foldInt32(left: Double, right: Double, operation: (Int, Int) -> Int): JsExpression? {
+        val a = toInt32(left) ?: return null
+        val b = toInt32(right) ?: return null
+        return program.getNumberLiteral(operation(a, b))
+    }
+
+    private fun numberLiteral(value: Double): JsExpression? {
+        if (value.isNaN() || value.isInfinite() || (value == 0.0 && 1 / value < 0)) return null
+
+        val intValue = value.toInt()
+        return if (intValue.toDouble() == value) program.getNumberLiteral(intValue) else program.getNumberLiteral(value)
+    }
+}
+
+private fun toInt32(value: Double): Int? = if (Math.abs(value) < MAX_EXACT_INTEGER) value.toLong().toInt() else null
+
+private fun numberValue(expression: JsExpression): Double? =
+        when (expression) {
+            is JsIntLiteral -> expression.value.toDouble()
+            is JsDoubleLiteral -> expression.value
+            else -> null
+        }
+
+// Only values, that are converted to strings in the same way by Java and JS
+private fun stringValue(expression: JsExpression): String? =
+        when (expression) {
+            is JsStringLiteral -> expression.value
+            is JsIntLiteral -> expression.value.toString()
+            else -> null
+        }
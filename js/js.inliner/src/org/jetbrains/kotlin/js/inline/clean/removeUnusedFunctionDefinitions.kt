@@ -17,21 +17,27 @@
 package org.jetbrains.kotlin.js.inline.clean
 
 import com.google.dart.compiler.backend.js.ast.*
-import com.google.dart.compiler.backend.js.ast.metadata.staticRef
 import com.google.dart.compiler.backend.js.ast.metadata.isLocal
+import com.google.dart.compiler.backend.js.ast.metadata.isNonPublicInline
 
 import org.jetbrains.kotlin.js.inline.util.IdentitySet
-import org.jetbrains.kotlin.js.inline.util.collectFunctionReferencesInside
+import org.jetbrains.kotlin.js.inline.util.collectReferencesInside
 
 /**
  * Removes unused function definitions:
  *  f: function() { return 10 }
  *
  * At now, it only removes unused local functions and function literals,
- * because named functions can be referenced from another module.
+ * and non-public inline functions, whose calls have all been inlined,
+ * because other named functions can be referenced from another module.
  */
 fun removeUnusedFunctionDefinitions(root: JsNode, functions: Map<JsName, JsFunction>) {
-    val removable = with(UnusedLocalFunctionsCollector(functions)) {
+    val referencedIdents = with(UnboundReferenceCollector()) {
+        accept(root)
+        idents
+    }
+
+    val removable = with(UnusedLocalFunctionsCollector(functions, referencedIdents)) {
         process()
         accept(root)
         removableFunctions
@@ -43,7 +49,10 @@ fun removeUnusedFunctionDefinitions(root: JsNode, functions: Map<JsName, JsFunct
     }.accept(root)
 }
 
-private class UnusedLocalFunctionsCollector(functions: Map<JsName, JsFunction>) : JsVisitorWithContextImpl() {
+private class UnusedLocalFunctionsCollector(
+        functions: Map<JsName, JsFunction>,
+        private val referencedIdents: Set<String>
+) : JsVisitorWithContextImpl() {
     private val tracker = ReferenceTracker<JsName, JsFunction>()
     private val functions = functions
     private val processed = IdentitySet<JsFunction>()
@@ -52,11 +61,11 @@ private class UnusedLocalFunctionsCollector(functions: Map<JsName, JsFunction>)
         get() = tracker.removable
 
     fun process() {
-        functions.filter { it.value.isLocal }
+        functions.filter { isRemovable(it.value) }
                  .forEach { tracker.addCandidateForRemoval(it.key, it.value) }
 
         for ((name, function) in functions) {
-            if (function.isLocal) {
+            if (isRemovable(function)) {
                 processLocalFunction(name, function)
             } else {
                 processNonLocalFunction(function)
@@ -64,6 +73,10 @@ private class UnusedLocalFunctionsCollector(functions: Map<JsName, JsFunction>)
 
             processed.add(function)
         }
+
+        // Member functions can be referenced by their names as strings, e.g. in callable references
+        functions.keys.filter { it.ident in referencedIdents }
+                      .forEach { tracker.markReachable(it) }
     }
 
     override fun visit(x: JsPropertyInitializer, ctx: JsContext<*>): Boolean {
@@ -85,27 +98,43 @@ private class UnusedLocalFunctionsCollector(functions: Map<JsName, JsFunction>)
 
     override fun endVisit(x: JsNameRef, ctx: JsContext<*>) {
         val name = x.name
-        if (isFunctionReference(x) && name != null) {
+        if (name != null) {
             tracker.markReachable(name)
         }
     }
 
+    // Names of non-public functions don't have static refs, so every reference is tracked
     private fun processLocalFunction(name: JsName, function: JsFunction) {
-        for (referenced in collectFunctionReferencesInside(function)) {
+        for (referenced in collectReferencesInside(function)) {
             tracker.addRemovableReference(name, referenced)
         }
     }
 
     private fun processNonLocalFunction(function: JsFunction) {
-        for (referenced in collectFunctionReferencesInside(function)) {
+        for (referenced in collectReferencesInside(function)) {
             tracker.markReachable(referenced)
         }
     }
 
-    private fun isFunctionReference(nameRef: HasName?): Boolean {
-        return nameRef?.name?.staticRef is JsFunction
-    }
+    private fun isRemovable(function: JsFunction): Boolean = function.isLocal || function.isNonPublicInline
 
     private fun wasProcessed(function: JsFunction?): Boolean = function != null && function in processed
 }
 
+/**
+ * Collects identifiers, that may refer to functions without a bound name:
+ * string literals and name references from js() code.
+ */
+private class UnboundReferenceCollector : JsVisitorWithContextImpl() {
+    val idents = hashSetOf<String>()
+
+    override fun endVisit(x: JsStringLiteral, ctx: JsContext<*>) {
+        idents.add(x.value)
+    }
+
+    override fun endVisit(x: JsNameRef, ctx: JsContext<*>) {
+        if (x.name == null) {
+            idents.add(x.ident)
+        }
+    }
+}
@@ -17,7 +17,6 @@
 package org.jetbrains.kotlin.js.inline.util
 
 import com.google.dart.compiler.backend.js.ast.*
-import com.google.dart.compiler.backend.js.ast.metadata.staticRef
 
 import java.util.IdentityHashMap
 import org.jetbrains.kotlin.js.inline.util.collectors.ReferenceNameCollector
@@ -26,9 +25,6 @@ import org.jetbrains.kotlin.js.inline.util.collectors.InstanceCollector
 import org.jetbrains.kotlin.js.inline.util.collectors.PropertyCollector
 import org.jetbrains.kotlin.js.translate.expression.*
 
-fun collectFunctionReferencesInside(scope: JsNode): List<JsName> =
-     collectReferencesInside(scope).filter { it.staticRef is JsFunction }
-
 fun collectReferencesInside(scope: JsNode): List<JsName> {
     return with(ReferenceNameCollector()) {
         accept(scope)
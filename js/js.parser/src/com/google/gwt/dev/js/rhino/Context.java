@@ -52,7 +52,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.lang.reflect.Method;
 import java.text.MessageFormat;
 import java.util.Hashtable;
 import java.util.Locale;
@@ -201,27 +200,14 @@ public class Context {
      *         thread.
      */
     public static Context getCurrentContext() {
-        if (threadLocalCx != null) {
-            try {
-                return (Context)threadLocalGet.invoke(threadLocalCx, (Object[]) null);
-            } catch (Exception ex) { }
-        }
-        Thread t = Thread.currentThread();
-        return (Context) threadContexts.get(t);
+        return threadContext.get();
     }
 
     private static void setThreadContext(Context cx) {
-        if (threadLocalCx != null) {
-            try {
-                threadLocalSet.invoke(threadLocalCx, new Object[] { cx });
-                return;
-            } catch (Exception ex) { }
-        }
-        Thread t = Thread.currentThread();
         if (cx != null) {
-            threadContexts.put(t, cx);
+            threadContext.set(cx);
         } else {
-            threadContexts.remove(t);
+            threadContext.remove();
         }
     }
 
@@ -466,10 +452,8 @@ public class Context {
     static final boolean check = true;
 
     private static MessagesBundle messages = new MessagesBundle();
-    private static Hashtable threadContexts = new Hashtable(11);
-    private static Object threadLocalCx;
-    private static Method threadLocalGet;
-    private static Method threadLocalSet;
+    // Contexts are entered and exited on every parse, so the lookup shouldn't synchronize on a shared table
+    private static final ThreadLocal<Context> threadContext = new ThreadLocal<Context>();
 
     int version;
     int errorCount;
@@ -61,8 +61,11 @@ final class LineBuffer {
      * instead of directly out of the buffer whenever a string crosses
      * a buffer boundary, so small buffer sizes will mean that more
      * objects are created.
+     *
+     * Library files and js() code are in memory as strings, so a bigger
+     * buffer costs little and means fewer refills and string copies.
      */
-    static final int BUFLEN = 256;
+    static final int BUFLEN = 4096;
 
     LineBuffer(Reader in, int lineno) {
         this.in = in;
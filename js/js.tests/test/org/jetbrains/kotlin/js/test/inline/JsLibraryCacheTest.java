@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2016 JetBrains s.r.o.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jetbrains.kotlin.js.test.inline;
+
+import com.intellij.openapi.util.io.FileUtil;
+import junit.framework.TestCase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.js.inline.JsLibraryCache;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public final class JsLibraryCacheTest extends TestCase {
+    private File dir;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        dir = FileUtil.createTempDirectory("jsLibraryCache", null);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        FileUtil.delete(dir);
+        super.tearDown();
+    }
+
+    public void testLibraryRereadAfterChange() throws Exception {
+        File jar = new File(dir, "lib.jar");
+
+        writeLibrary(jar, "Kotlin.defineModule('foo', _);");
+        long lastModified = jar.lastModified();
+        long length = jar.length();
+        assertModuleName("foo", jar);
+
+        // Rebuilt within the file system's time granularity: same size and modification time, different contents
+        writeLibrary(jar, "Kotlin.defineModule('bar', _);");
+        assertTrue(jar.setLastModified(lastModified));
+        assertEquals(lastModified, jar.lastModified());
+        assertEquals(length, jar.length());
+        assertModuleName("bar", jar);
+    }
+
+    public void testUnchangedLibraryIsCached() throws Exception {
+        File jar = new File(dir, "lib.jar");
+        writeLibrary(jar, "Kotlin.defineModule('foo', _);");
+
+        assertSame(JsLibraryCache.INSTANCE.getModules(jar), JsLibraryCache.INSTANCE.getModules(jar));
+    }
+
+    private static void assertModuleName(@NotNull String expected, @NotNull File jar) {
+        List<JsLibraryCache.JsLibraryModule> modules = JsLibraryCache.INSTANCE.getModules(jar);
+        assertEquals(1, modules.size());
+        assertEquals(expected, modules.get(0).getName());
+    }
+
+    private static void writeLibrary(@NotNull File jar, @NotNull String content) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(jar));
+        try {
+            byte[] bytes = content.getBytes("UTF-8");
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+
+            // Stored uncompressed, so that archives with contents of the same length have the same size
+            ZipEntry entry = new ZipEntry("lib.js");
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(bytes.length);
+            entry.setCrc(crc.getValue());
+            entry.setTime(0);
+            zip.putNextEntry(entry);
+            zip.write(bytes);
+            zip.closeEntry();
+        }
+        finally {
+            zip.close();
+        }
+    }
+}
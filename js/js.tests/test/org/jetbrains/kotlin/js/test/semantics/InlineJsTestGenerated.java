@@ -293,6 +293,12 @@ public class InlineJsTestGenerated extends AbstractInlineJsTest {
         doTest(fileName);
     }
 
+    @TestMetadata("removeUnusedNonPublicInline.kt")
+    public void testRemoveUnusedNonPublicInline() throws Exception {
+        String fileName = KotlinTestUtils.navigationMetadata("js/js.translator/testData/inline/cases/removeUnusedNonPublicInline.kt");
+        doTest(fileName);
+    }
+
     @TestMetadata("rootConstructor.kt")
     public void testRootConstructor() throws Exception {
         String fileName = KotlinTestUtils.navigationMetadata("js/js.translator/testData/inline/cases/rootConstructor.kt");
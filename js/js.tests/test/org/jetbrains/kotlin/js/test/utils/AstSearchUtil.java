@@ -38,11 +38,16 @@ public class AstSearchUtil {
 
     @NotNull
     public static JsExpression getProperty(@NotNull JsNode searchRoot, @NotNull String name) {
-        JsExpression property = findByIdent(collectJsProperties(searchRoot), name);
+        JsExpression property = findProperty(searchRoot, name);
         assert property != null: "Property `" + name + "` was not found";
         return property;
     }
 
+    @Nullable
+    public static JsExpression findProperty(@NotNull JsNode searchRoot, @NotNull String name) {
+        return findByIdent(collectJsProperties(searchRoot), name);
+    }
+
     @Nullable
     private static <T extends JsExpression> T findByIdent(@NotNull Map<JsName, T> properties, @NotNull String name) {
         for (Map.Entry<JsName, T> entry : properties.entrySet()) {
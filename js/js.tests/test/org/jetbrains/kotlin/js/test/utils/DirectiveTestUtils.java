@@ -148,6 +148,9 @@ public class DirectiveTestUtils {
 
     private static final DirectiveHandler COUNT_BREAKS = new CountNodesDirective<JsBreak>("CHECK_BREAKS_COUNT", JsBreak.class);
 
+    private static final DirectiveHandler COUNT_BINARY_OPERATIONS =
+            new CountNodesDirective<JsBinaryOperation>("CHECK_BINOP_COUNT", JsBinaryOperation.class);
+
     private static final DirectiveHandler HAS_INLINE_METADATA = new DirectiveHandler("CHECK_HAS_INLINE_METADATA") {
         @Override
         void processEntry(@NotNull JsNode ast, @NotNull ArgumentsHelper arguments) throws Exception {
@@ -168,6 +171,15 @@ public class DirectiveTestUtils {
         }
     };
 
+    private static final DirectiveHandler FUNCTION_NOT_DEFINED = new DirectiveHandler("CHECK_FUNCTION_NOT_DEFINED") {
+        @Override
+        void processEntry(@NotNull JsNode ast, @NotNull ArgumentsHelper arguments) throws Exception {
+            String functionName = arguments.getFirst();
+            String message = "Definition of function " + functionName + " has not been removed";
+            assertNull(message, AstSearchUtil.findProperty(ast, functionName));
+        }
+    };
+
     private static final List<DirectiveHandler> DIRECTIVE_HANDLERS = Arrays.asList(
             FUNCTION_CONTAINS_NO_CALLS,
             FUNCTION_NOT_CALLED,
@@ -177,8 +189,10 @@ public class DirectiveTestUtils {
             COUNT_LABELS,
             COUNT_VARS,
             COUNT_BREAKS,
+            COUNT_BINARY_OPERATIONS,
             HAS_INLINE_METADATA,
-            HAS_NO_INLINE_METADATA
+            HAS_NO_INLINE_METADATA,
+            FUNCTION_NOT_DEFINED
     );
 
     public static void processDirectives(@NotNull JsNode ast, @NotNull String sourceCode) throws Exception {
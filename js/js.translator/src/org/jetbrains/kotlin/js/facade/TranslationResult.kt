@@ -17,7 +17,6 @@
 package org.jetbrains.kotlin.js.facade
 
 import com.google.dart.compiler.backend.js.ast.JsProgram
-import com.google.dart.compiler.util.TextOutput
 import com.google.dart.compiler.util.TextOutputImpl
 import com.intellij.openapi.util.text.StringUtil
 import com.intellij.openapi.vfs.VfsUtilCore
@@ -45,7 +44,7 @@ abstract class TranslationResult protected constructor(val diagnostics: Diagnost
             diagnostics: Diagnostics,
             private val moduleDescriptor: ModuleDescriptor
     ) : TranslationResult(diagnostics) {
-        fun getCode(): String = getCode(TextOutputImpl(), sourceMapBuilder = null)
+        fun getCode(): String = getCode(TextOutputImpl(), sourceMapBuilder = null, prefix = "", postfix = "")
 
         fun getOutputFiles(outputFile: File, outputPrefixFile: File?, outputPostfixFile: File?): OutputFileCollection {
             val output = TextOutputImpl()
@@ -54,9 +53,9 @@ abstract class TranslationResult protected constructor(val diagnostics: Diagnost
                 else -> null
             }
 
-            val code = getCode(output, sourceMapBuilder)
             val prefix = outputPrefixFile?.readText() ?: ""
             val postfix = outputPostfixFile?.readText() ?: ""
+            val code = getCode(output, sourceMapBuilder, prefix, postfix)
             val sourceFiles = files.map {
                 val virtualFile = it.originalFile.virtualFile
 
@@ -66,7 +65,7 @@ abstract class TranslationResult protected constructor(val diagnostics: Diagnost
                 }
             }
 
-            val jsFile = SimpleOutputFile(sourceFiles, outputFile.name, prefix + code + postfix)
+            val jsFile = SimpleOutputFile(sourceFiles, outputFile.name, code)
             val outputFiles = arrayListOf<OutputFile>(jsFile)
 
             if (config.isMetaInfo) {
@@ -93,9 +92,9 @@ abstract class TranslationResult protected constructor(val diagnostics: Diagnost
             return SimpleOutputFileCollection(outputFiles)
         }
 
-        private fun getCode(output: TextOutput, sourceMapBuilder: SourceMapBuilder?): String {
+        private fun getCode(output: TextOutputImpl, sourceMapBuilder: SourceMapBuilder?, prefix: String, postfix: String): String {
             program.accept(JsSourceGenerationVisitor(output, sourceMapBuilder))
-            return output.toString()
+            return output.toString(prefix, postfix)
         }
     }
 }
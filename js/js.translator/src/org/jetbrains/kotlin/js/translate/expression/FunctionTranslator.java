@@ -98,9 +98,12 @@ public final class FunctionTranslator extends AbstractTranslator {
         JsName functionName = context().getNameForDescriptor(descriptor);
         generateFunctionObject();
 
-        if (shouldBeInlined(descriptor) && DescriptorUtilsKt.isEffectivelyPublicApi(descriptor)) {
-            InlineMetadata metadata = InlineMetadata.compose(functionObject, descriptor);
-            return new JsPropertyInitializer(functionName.makeRef(), metadata.getFunctionWithMetadata());
+        if (shouldBeInlined(descriptor)) {
+            if (DescriptorUtilsKt.isEffectivelyPublicApi(descriptor)) {
+                InlineMetadata metadata = InlineMetadata.compose(functionObject, descriptor);
+                return new JsPropertyInitializer(functionName.makeRef(), metadata.getFunctionWithMetadata());
+            }
+            MetadataProperties.setNonPublicInline(functionObject, true);
         }
 
         return new JsPropertyInitializer(functionName.makeRef(), functionObject);
@@ -8,8 +8,8 @@ package foo
 // CHECK_HAS_INLINE_METADATA: apply_hiyix$
 // CHECK_HAS_INLINE_METADATA: applyL_hiyix$
 // CHECK_HAS_INLINE_METADATA: applyM_hiyix$
-// CHECK_HAS_NO_INLINE_METADATA: applyN
-// CHECK_HAS_NO_INLINE_METADATA: applyO_hiyix$
+// CHECK_FUNCTION_NOT_DEFINED: applyN
+// CHECK_FUNCTION_NOT_DEFINED: applyO_hiyix$
 
 inline
 public fun <T> apply(arg: T, func: (T)->T): T = func(arg)
@@ -0,0 +1,23 @@
+package foo
+
+// CHECK_CONTAINS_NO_CALLS: test
+// CHECK_FUNCTION_NOT_DEFINED: twice
+// CHECK_FUNCTION_NOT_DEFINED: twicePlusOne
+// CHECK_HAS_NO_INLINE_METADATA: triple
+
+internal inline fun twice(x: Int): Int = x * 2
+
+internal inline fun twicePlusOne(x: Int): Int = twice(x) + 1
+
+internal inline fun triple(x: Int): Int = x * 3
+
+internal fun test(x: Int): Int = twicePlusOne(x)
+
+internal fun applyTo(x: Int, f: (Int) -> Int): Int = f(x)
+
+fun box(): String {
+    assertEquals(7, test(3))
+    assertEquals(9, applyTo(3, ::triple))
+
+    return "OK"
+}
@@ -0,0 +1,21 @@
+package foo
+
+// CHECK_CONTAINS_NO_CALLS: area
+// CHECK_CONTAINS_NO_CALLS: square
+// CHECK_BINOP_COUNT: function=area count=0
+// CHECK_BINOP_COUNT: function=square count=0
+
+internal inline fun rectangleArea(width: Int, height: Int): Int = width * height + width / 2
+
+internal inline fun isSquare(width: Int, height: Int): Boolean = width == height && width > 0
+
+internal fun area(): Int = rectangleArea(3, 4)
+
+internal fun square(): Boolean = isSquare(3, 4)
+
+fun box(): String {
+    assertEquals(13, area())
+    assertEquals(false, square())
+
+    return "OK"
+}
@@ -1173,27 +1173,27 @@
     };
 
     Kotlin.numberArrayOfSize = function (size) {
-        return Kotlin.arrayFromFun(size, function () {
-            return 0;
-        });
+        return Kotlin.newArray(size, 0);
     };
 
     Kotlin.charArrayOfSize = function (size) {
-        return Kotlin.arrayFromFun(size, function () {
-            return '\0';
-        });
+        return Kotlin.newArray(size, '\0');
     };
 
     Kotlin.booleanArrayOfSize = function (size) {
-        return Kotlin.arrayFromFun(size, function () {
-            return false;
-        });
+        return Kotlin.newArray(size, false);
     };
 
     Kotlin.longArrayOfSize = function (size) {
-        return Kotlin.arrayFromFun(size, function () {
-            return Kotlin.Long.ZERO;
-        });
+        return Kotlin.newArray(size, Kotlin.Long.ZERO);
+    };
+
+    Kotlin.newArray = function (size, initValue) {
+        var result = new Array(size);
+        for (var i = 0; i < size; i++) {
+            result[i] = initValue;
+        }
+        return result;
     };
 
     Kotlin.arrayFromFun = function (size, initFun) {
@@ -4727,28 +4727,28 @@ public fun <T : Comparable<T>> Array<out T>.sorted(): List<T> {
  * Returns a list of all elements sorted according to their natural sort order.
  */
 public fun ByteArray.sorted(): List<Byte> {
-    return toTypedArray().apply { sort() }.asList()
+    return copyOf().apply { sort() }.asList()
 }
 
 /**
  * Returns a list of all elements sorted according to their natural sort order.
  */
 public fun ShortArray.sorted(): List<Short> {
-    return toTypedArray().apply { sort() }.asList()
+    return copyOf().apply { sort() }.asList()
 }
 
 /**
  * Returns a list of all elements sorted according to their natural sort order.
  */
 public fun IntArray.sorted(): List<Int> {
-    return toTypedArray().apply { sort() }.asList()
+    return copyOf().apply { sort() }.asList()
 }
 
 /**
  * Returns a list of all elements sorted according to their natural sort order.
  */
 public fun LongArray.sorted(): List<Long> {
-    return toTypedArray().apply { sort() }.asList()
+    return copyOf().apply { sort() }.asList()
 }
 
 /**
@@ -4769,7 +4769,7 @@ public fun DoubleArray.sorted(): List<Double> {
  * Returns a list of all elements sorted according to their natural sort order.
  */
 public fun CharArray.sorted(): List<Char> {
-    return toTypedArray().apply { sort() }.asList()
+    return copyOf().apply { sort() }.asList()
 }
 
 /**
@@ -21,4 +21,31 @@ class ArraysJVMTest {
         expect("1") { xArray[0] }
         expect("2") { xArray[1] }
     }
+
+    @test fun sortedFloatingPointUsesBoxedEquality() {
+        val doubles = doubleArrayOf(Double.NaN, 0.0, -0.0, 1.0).sorted()
+        assertEquals(listOf(-0.0, 0.0, 1.0, Double.NaN), doubles)
+        assertTrue(doubles.contains(Double.NaN))
+        expect(3) { doubles.indexOf(Double.NaN) }
+        expect(0) { doubles.indexOf(-0.0) }
+        expect(1) { doubles.lastIndexOf(0.0) }
+
+        val floats = floatArrayOf(Float.NaN, 0.0f, -0.0f, 1.0f).sorted()
+        assertEquals(listOf(-0.0f, 0.0f, 1.0f, Float.NaN), floats)
+        assertTrue(floats.contains(Float.NaN))
+        expect(3) { floats.indexOf(Float.NaN) }
+        expect(1) { floats.indexOf(0.0f) }
+
+        val descending = doubleArrayOf(0.0, Double.NaN, -0.0).sortedDescending()
+        assertTrue(descending.contains(Double.NaN))
+        expect(1) { descending.indexOf(0.0) }
+        expect(2) { descending.indexOf(-0.0) }
+    }
+
+    @test fun sortedDescendingReturnsArrayList() {
+        assertTrue(intArrayOf(2, 3, 1).sortedDescending() is ArrayList<Int>)
+        assertTrue(longArrayOf(2L, 3L, 1L).sortedDescending() is ArrayList<Long>)
+        assertTrue(doubleArrayOf(2.0, 3.0, 1.0).sortedDescending() is ArrayList<Double>)
+        assertTrue(charArrayOf('b', 'c', 'a').sortedDescending() is ArrayList<Char>)
+    }
 }
@@ -108,6 +108,12 @@ fun ordering(): List<GenericFunction> {
             """
         }
         body(ArraysOfPrimitives) {
+            """
+            return copyOf().apply { sort() }.asList()
+            """
+        }
+        // asList() of a floating point array compares elements with ==, keep boxed equals for NaN and -0.0
+        bodyForTypes(ArraysOfPrimitives, PrimitiveType.Float, PrimitiveType.Double) {
             """
             return toTypedArray().apply { sort() }.asList()
             """